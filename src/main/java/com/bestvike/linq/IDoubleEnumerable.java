@@ -0,0 +1,69 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.DoublePredicate1;
+import com.bestvike.function.DoubleToDoubleFunc1;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
+
+/**
+ * Sequence of primitive double values, every operator works on double without boxing.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface IDoubleEnumerable {
+    IDoubleEnumerator enumerator();
+
+    default double average() {
+        return DoubleEnumerable.average(this);
+    }
+
+    default IEnumerable<Double> boxed() {
+        return DoubleEnumerable.boxed(this);
+    }
+
+    default int count() {
+        return DoubleEnumerable.count(this);
+    }
+
+    default IDoubleEnumerable distinct() {
+        return DoubleEnumerable.distinct(this);
+    }
+
+    default double max() {
+        return DoubleEnumerable.max(this);
+    }
+
+    default double min() {
+        return DoubleEnumerable.min(this);
+    }
+
+    default IDoubleEnumerable orderBy() {
+        return DoubleEnumerable.orderBy(this, false);
+    }
+
+    default IDoubleEnumerable orderByDescending() {
+        return DoubleEnumerable.orderBy(this, true);
+    }
+
+    default IDoubleEnumerable select(DoubleToDoubleFunc1 selector) {
+        return DoubleEnumerable.select(this, selector);
+    }
+
+    default double sum() {
+        return DoubleEnumerable.sum(this);
+    }
+
+    default double[] toDoubleArray() {
+        return DoubleEnumerable.toDoubleArray(this);
+    }
+
+    /**
+     * Population variance of the sequence.
+     */
+    default double variance() {
+        return DoubleEnumerable.variance(this);
+    }
+
+    default IDoubleEnumerable where(DoublePredicate1 predicate) {
+        return DoubleEnumerable.where(this, predicate);
+    }
+}
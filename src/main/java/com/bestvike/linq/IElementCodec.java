@@ -0,0 +1,16 @@
+package com.bestvike.linq;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes elements to and reads them back from temporary storage, used by operators that spill to disk.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface IElementCodec<T> {
+    void encode(DataOutput output, T element) throws IOException;
+
+    T decode(DataInput input) throws IOException;
+}
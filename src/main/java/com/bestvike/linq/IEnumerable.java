@@ -1,6 +1,7 @@
 package com.bestvike.linq;
 
 import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.IArrayList;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Action2;
 import com.bestvike.function.DecimalFunc1;
@@ -23,12 +24,14 @@ import com.bestvike.linq.enumerable.AnyAll;
 import com.bestvike.linq.enumerable.AppendPrepend;
 import com.bestvike.linq.enumerable.Average;
 import com.bestvike.linq.enumerable.Cast;
+import com.bestvike.linq.enumerable.Chunk;
 import com.bestvike.linq.enumerable.Concat;
 import com.bestvike.linq.enumerable.Contains;
 import com.bestvike.linq.enumerable.Count;
 import com.bestvike.linq.enumerable.DefaultIfEmpty;
 import com.bestvike.linq.enumerable.Distinct;
 import com.bestvike.linq.enumerable.DistinctBy;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
 import com.bestvike.linq.enumerable.ElementAt;
 import com.bestvike.linq.enumerable.Except;
 import com.bestvike.linq.enumerable.ExceptBy;
@@ -38,20 +41,26 @@ import com.bestvike.linq.enumerable.Format;
 import com.bestvike.linq.enumerable.GroupBy;
 import com.bestvike.linq.enumerable.GroupJoin;
 import com.bestvike.linq.enumerable.IndexOf;
+import com.bestvike.linq.enumerable.IntEnumerable;
 import com.bestvike.linq.enumerable.Intersect;
 import com.bestvike.linq.enumerable.IntersectBy;
 import com.bestvike.linq.enumerable.Join;
 import com.bestvike.linq.enumerable.Joining;
 import com.bestvike.linq.enumerable.Last;
+import com.bestvike.linq.enumerable.LongEnumerable;
 import com.bestvike.linq.enumerable.Max;
 import com.bestvike.linq.enumerable.MaxBy;
+import com.bestvike.linq.enumerable.Memoize;
+import com.bestvike.linq.enumerable.MergeJoin;
 import com.bestvike.linq.enumerable.Min;
 import com.bestvike.linq.enumerable.MinBy;
 import com.bestvike.linq.enumerable.OrderBy;
+import com.bestvike.linq.enumerable.ParallelEnumerable;
 import com.bestvike.linq.enumerable.Reverse;
 import com.bestvike.linq.enumerable.RunOnce;
 import com.bestvike.linq.enumerable.Select;
 import com.bestvike.linq.enumerable.SelectMany;
+import com.bestvike.linq.enumerable.SemiJoin;
 import com.bestvike.linq.enumerable.SequenceEqual;
 import com.bestvike.linq.enumerable.Shuffle;
 import com.bestvike.linq.enumerable.Single;
@@ -137,6 +146,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return AnyAll.all(this, (Predicate1<TSource>) predicate);
     }
 
+    default <TInner, TKey> IEnumerable<TSource> antiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector) {
+        return SemiJoin.antiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector);
+    }
+
+    default <TInner, TKey> IEnumerable<TSource> antiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, IEqualityComparer<? super TKey> comparer) {
+        return SemiJoin.antiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default boolean any() {
         return AnyAll.any(this);
     }
@@ -153,6 +170,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return (IEnumerable<TResult>) this;
     }
 
+    default IParallelEnumerable<TSource> asParallel() {
+        return ParallelEnumerable.asParallel(this);
+    }
+
     default double averageInt() {
         return Average.averageInt((IEnumerable<Integer>) this);
     }
@@ -237,6 +258,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Cast.cast(this, clazz);
     }
 
+    default IEnumerable<IArrayList<TSource>> chunk(int size) {
+        return Chunk.chunk(this, size);
+    }
+
     default IEnumerable<TSource> concat(IEnumerable<? extends TSource> second) {
         return Concat.concat(this, (IEnumerable<TSource>) second);
     }
@@ -357,6 +382,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Join.fullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> fullMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.fullMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> fullMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.fullMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> fullMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.fullMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> fullMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.fullMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
     default <TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector) {
         return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector);
     }
@@ -429,6 +470,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Join.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IElementCodec<TSource> outerCodec, IElementCodec<TInner> innerCodec, int maxElementsInMemory) {
+        return Join.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerCodec, innerCodec, maxElementsInMemory);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer, IElementCodec<TSource> outerCodec, IElementCodec<TInner> innerCodec, int maxElementsInMemory) {
+        return Join.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer, outerCodec, innerCodec, maxElementsInMemory);
+    }
+
     default String joining() {
         return Joining.joining(this);
     }
@@ -481,6 +530,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Join.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IElementCodec<TSource> outerCodec, IElementCodec<TInner> innerCodec, int maxElementsInMemory) {
+        return Join.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerCodec, innerCodec, maxElementsInMemory);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer, IElementCodec<TSource> outerCodec, IElementCodec<TInner> innerCodec, int maxElementsInMemory) {
+        return Join.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer, outerCodec, innerCodec, maxElementsInMemory);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.leftMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.leftMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.leftMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.leftMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
     default long longCount() {
         return Count.longCount(this);
     }
@@ -633,6 +706,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return MaxBy.maxByNull(this, (Func1<TSource, TKey>) keySelector);
     }
 
+    default IMemoizedEnumerable<TSource> memoize() {
+        return Memoize.memoize(this);
+    }
+
+    default IMemoizedEnumerable<TSource> memoize(boolean threadSafe) {
+        return Memoize.memoize(this, threadSafe);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
     default int minInt() {
         return Min.minInt((IEnumerable<Integer>) this);
     }
@@ -781,6 +870,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Cast.ofType(this, clazz);
     }
 
+    default IOrderedEnumerable<TSource> orderByInt(IntFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByIntDescending(IntFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByIntDescending(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByLong(LongFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByLongDescending(LongFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByLongDescending(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDouble(DoubleFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDouble(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDoubleDescending(DoubleFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDoubleDescending(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
     default <TKey> IOrderedEnumerable<TSource> orderBy(Func1<? super TSource, ? extends TKey> keySelector) {
         return OrderBy.orderBy(this, (Func1<TSource, TKey>) keySelector);
     }
@@ -821,6 +934,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Join.rightJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> rightMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.rightMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> rightMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.rightMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> rightMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.rightMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> rightMergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.rightMergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
     default IEnumerable<TSource> runOnce() {
         return RunOnce.runOnce(this);
     }
@@ -849,6 +978,26 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return SelectMany.selectMany(this, (IndexFunc2<TSource, IEnumerable<TCollection>>) collectionSelector, (Func2<TSource, TCollection, TResult>) resultSelector);
     }
 
+    default IDoubleEnumerable selectToDouble(DoubleFunc1<? super TSource> selector) {
+        return DoubleEnumerable.selectToDouble(this, (DoubleFunc1<TSource>) selector);
+    }
+
+    default IIntEnumerable selectToInt(IntFunc1<? super TSource> selector) {
+        return IntEnumerable.selectToInt(this, (IntFunc1<TSource>) selector);
+    }
+
+    default ILongEnumerable selectToLong(LongFunc1<? super TSource> selector) {
+        return LongEnumerable.selectToLong(this, (LongFunc1<TSource>) selector);
+    }
+
+    default <TInner, TKey> IEnumerable<TSource> semiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector) {
+        return SemiJoin.semiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector);
+    }
+
+    default <TInner, TKey> IEnumerable<TSource> semiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, IEqualityComparer<? super TKey> comparer) {
+        return SemiJoin.semiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default boolean sequenceEqual(IEnumerable<? extends TSource> second) {
         return SequenceEqual.sequenceEqual(this, (IEnumerable<TSource>) second);
     }
@@ -1022,14 +1171,26 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return ToCollection.toLinkedMap(this, (Func1<TSource, TKey>) keySelector);
     }
 
+    default <TKey> Map<TKey, TSource> toLinkedMap(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        return ToCollection.toLinkedMap(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default <TKey, TElement> Map<TKey, TElement> toLinkedMap(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
         return ToCollection.toLinkedMap(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector);
     }
 
+    default <TKey, TElement> Map<TKey, TElement> toLinkedMap(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer) {
+        return ToCollection.toLinkedMap(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default Set<TSource> toLinkedSet() {
         return ToCollection.toLinkedSet(this);
     }
 
+    default Set<TSource> toLinkedSet(IEqualityComparer<? super TSource> comparer) {
+        return ToCollection.toLinkedSet(this, (IEqualityComparer<TSource>) comparer);
+    }
+
     default List<TSource> toList() {
         return ToCollection.toList(this);
     }
@@ -1054,14 +1215,26 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return ToCollection.toMap(this, (Func1<TSource, TKey>) keySelector);
     }
 
+    default <TKey> Map<TKey, TSource> toMap(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        return ToCollection.toMap(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default <TKey, TElement> Map<TKey, TElement> toMap(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
         return ToCollection.toMap(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector);
     }
 
+    default <TKey, TElement> Map<TKey, TElement> toMap(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer) {
+        return ToCollection.toMap(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default Set<TSource> toSet() {
         return ToCollection.toSet(this);
     }
 
+    default Set<TSource> toSet(IEqualityComparer<? super TSource> comparer) {
+        return ToCollection.toSet(this, (IEqualityComparer<TSource>) comparer);
+    }
+
     default IEnumerable<TSource> union(IEnumerable<? extends TSource> second) {
         return Union.union(this, (IEnumerable<TSource>) second);
     }
@@ -0,0 +1,70 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.IntPredicate1;
+import com.bestvike.function.IntToIntFunc1;
+import com.bestvike.linq.enumerable.IntEnumerable;
+
+/**
+ * Sequence of primitive int values, every operator works on int without boxing.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface IIntEnumerable {
+    IIntEnumerator enumerator();
+
+    default IDoubleEnumerable asDoubleEnumerable() {
+        return IntEnumerable.asDoubleEnumerable(this);
+    }
+
+    default ILongEnumerable asLongEnumerable() {
+        return IntEnumerable.asLongEnumerable(this);
+    }
+
+    default double average() {
+        return IntEnumerable.average(this);
+    }
+
+    default IEnumerable<Integer> boxed() {
+        return IntEnumerable.boxed(this);
+    }
+
+    default int count() {
+        return IntEnumerable.count(this);
+    }
+
+    default IIntEnumerable distinct() {
+        return IntEnumerable.distinct(this);
+    }
+
+    default int max() {
+        return IntEnumerable.max(this);
+    }
+
+    default int min() {
+        return IntEnumerable.min(this);
+    }
+
+    default IIntEnumerable orderBy() {
+        return IntEnumerable.orderBy(this, false);
+    }
+
+    default IIntEnumerable orderByDescending() {
+        return IntEnumerable.orderBy(this, true);
+    }
+
+    default IIntEnumerable select(IntToIntFunc1 selector) {
+        return IntEnumerable.select(this, selector);
+    }
+
+    default int sum() {
+        return IntEnumerable.sum(this);
+    }
+
+    default int[] toIntArray() {
+        return IntEnumerable.toIntArray(this);
+    }
+
+    default IIntEnumerable where(IntPredicate1 predicate) {
+        return IntEnumerable.where(this, predicate);
+    }
+}
@@ -0,0 +1,16 @@
+package com.bestvike.linq;
+
+import com.bestvike.IDisposable;
+
+/**
+ * Enumerator over primitive int values, current() never boxes.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface IIntEnumerator extends IDisposable {
+    boolean moveNext();
+
+    int current();
+
+    void close();
+}
@@ -0,0 +1,73 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.LongPredicate1;
+import com.bestvike.function.LongToLongFunc1;
+import com.bestvike.linq.enumerable.LongEnumerable;
+
+/**
+ * Sequence of primitive long values, every operator works on long without boxing.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface ILongEnumerable {
+    ILongEnumerator enumerator();
+
+    default IDoubleEnumerable asDoubleEnumerable() {
+        return LongEnumerable.asDoubleEnumerable(this);
+    }
+
+    default double average() {
+        return LongEnumerable.average(this);
+    }
+
+    default IEnumerable<Long> boxed() {
+        return LongEnumerable.boxed(this);
+    }
+
+    default int count() {
+        return LongEnumerable.count(this);
+    }
+
+    default ILongEnumerable distinct() {
+        return LongEnumerable.distinct(this);
+    }
+
+    default long max() {
+        return LongEnumerable.max(this);
+    }
+
+    default long min() {
+        return LongEnumerable.min(this);
+    }
+
+    default ILongEnumerable orderBy() {
+        return LongEnumerable.orderBy(this, false);
+    }
+
+    default ILongEnumerable orderByDescending() {
+        return LongEnumerable.orderBy(this, true);
+    }
+
+    default ILongEnumerable select(LongToLongFunc1 selector) {
+        return LongEnumerable.select(this, selector);
+    }
+
+    default long sum() {
+        return LongEnumerable.sum(this);
+    }
+
+    default long[] toLongArray() {
+        return LongEnumerable.toLongArray(this);
+    }
+
+    /**
+     * Population variance of the sequence.
+     */
+    default double variance() {
+        return LongEnumerable.variance(this);
+    }
+
+    default ILongEnumerable where(LongPredicate1 predicate) {
+        return LongEnumerable.where(this, predicate);
+    }
+}
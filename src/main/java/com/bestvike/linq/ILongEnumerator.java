@@ -0,0 +1,16 @@
+package com.bestvike.linq;
+
+import com.bestvike.IDisposable;
+
+/**
+ * Enumerator over primitive long values, current() never boxes.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface ILongEnumerator extends IDisposable {
+    boolean moveNext();
+
+    long current();
+
+    void close();
+}
@@ -0,0 +1,14 @@
+package com.bestvike.linq;
+
+import com.bestvike.IDisposable;
+
+/**
+ * Sequence that caches the elements of its source as the first enumerator pulls them, later enumerators replay the cache and extend it on demand.
+ * <p>
+ * Closing it releases the cache and the source enumerator, the next enumeration starts over from the source.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface IMemoizedEnumerable<TSource> extends IEnumerable<TSource>, IDisposable {
+    boolean isThreadSafe();
+}
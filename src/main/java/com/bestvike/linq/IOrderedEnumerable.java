@@ -1,7 +1,12 @@
 package com.bestvike.linq;
 
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.enumerable.OrderBy;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
 
 import java.util.Comparator;
 
@@ -12,6 +17,63 @@ import java.util.Comparator;
 public interface IOrderedEnumerable<TElement> extends IEnumerable<TElement> {
     <TKey> IOrderedEnumerable<TElement> createOrderedEnumerable(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending);
 
+    default IOrderedEnumerable<TElement> createOrderedEnumerableInt(IntFunc1<TElement> keySelector, boolean descending) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        Func1<TElement, Integer> boxedKeySelector = keySelector::apply;
+        return this.createOrderedEnumerable(boxedKeySelector, null, descending);
+    }
+
+    default IOrderedEnumerable<TElement> createOrderedEnumerableLong(LongFunc1<TElement> keySelector, boolean descending) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        Func1<TElement, Long> boxedKeySelector = keySelector::apply;
+        return this.createOrderedEnumerable(boxedKeySelector, null, descending);
+    }
+
+    default IOrderedEnumerable<TElement> createOrderedEnumerableDouble(DoubleFunc1<TElement> keySelector, boolean descending) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        Func1<TElement, Double> boxedKeySelector = keySelector::apply;
+        return this.createOrderedEnumerable(boxedKeySelector, null, descending);
+    }
+
+    default IOrderedEnumerable<TElement> parallel() {
+        return this;
+    }
+
+    default IOrderedEnumerable<TElement> spillToDisk(IElementCodec<TElement> codec, int maxElementsInMemory) {
+        if (codec == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.codec);
+        if (maxElementsInMemory < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.maxElementsInMemory);
+        return this;
+    }
+
+    default IOrderedEnumerable<TElement> thenByInt(IntFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByInt(this, (IntFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByIntDescending(IntFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByIntDescending(this, (IntFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByLong(LongFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByLong(this, (LongFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByLongDescending(LongFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByLongDescending(this, (LongFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByDouble(DoubleFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByDouble(this, (DoubleFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByDoubleDescending(DoubleFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByDoubleDescending(this, (DoubleFunc1<TElement>) keySelector);
+    }
+
     default <TKey> IOrderedEnumerable<TElement> thenBy(Func1<? super TElement, ? extends TKey> keySelector) {
         return OrderBy.thenBy(this, (Func1<TElement, TKey>) keySelector);
     }
@@ -0,0 +1,192 @@
+package com.bestvike.linq;
+
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.enumerable.ParallelEnumerable;
+
+/**
+ * Query whose where, select and selectMany stages run on a fork/join pool over partitions of the source.
+ * <p>
+ * Operators that are not overridden here fall back to the sequential implementation over the parallel results.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+@SuppressWarnings("unchecked")
+public interface IParallelEnumerable<TSource> extends IEnumerable<TSource> {
+    IParallelEnumerable<TSource> asOrdered();
+
+    IParallelEnumerable<TSource> asUnordered();
+
+    boolean isOrdered();
+
+    IParallelEnumerable<TSource> withDegreeOfParallelism(int degreeOfParallelism);
+
+    int getDegreeOfParallelism();
+
+    IEnumerable<TSource> asSequential();
+
+    @Override
+    default IParallelEnumerable<TSource> asParallel() {
+        return this;
+    }
+
+    default <TAccumulate> TAccumulate aggregate(Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func, Func2<? super TAccumulate, ? super TAccumulate, ? extends TAccumulate> combiner) {
+        return ParallelEnumerable.aggregate(this, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) func, (Func2<TAccumulate, TAccumulate, TAccumulate>) combiner);
+    }
+
+    @Override
+    default IParallelEnumerable<TSource> distinct() {
+        return ParallelEnumerable.distinct(this, null);
+    }
+
+    @Override
+    default IParallelEnumerable<TSource> distinct(IEqualityComparer<? super TSource> comparer) {
+        return ParallelEnumerable.distinct(this, (IEqualityComparer<TSource>) comparer);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.fullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, null, null, (Func2<TSource, TInner, TResult>) resultSelector, null);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.fullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, null);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.fullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, null, null, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.fullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TKey> IParallelEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector) {
+        return ParallelEnumerable.groupBy(this, (Func1<TSource, TKey>) keySelector, null);
+    }
+
+    @Override
+    default <TKey> IParallelEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.groupBy(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TKey, TElement> IParallelEnumerable<IGrouping<TKey, TElement>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return ParallelEnumerable.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, null);
+    }
+
+    @Override
+    default <TKey, TElement> IParallelEnumerable<IGrouping<TKey, TElement>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, null);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, null, (Func2<TSource, TInner, TResult>) resultSelector, null);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, null);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, null, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.rightJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, null, (Func2<TSource, TInner, TResult>) resultSelector, null);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.rightJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, (Func2<TSource, TInner, TResult>) resultSelector, null);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.rightJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, null, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TInner, TKey, TResult> IParallelEnumerable<TResult> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.rightJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TResult> IParallelEnumerable<TResult> select(Func1<? super TSource, ? extends TResult> selector) {
+        return ParallelEnumerable.select(this, (Func1<TSource, TResult>) selector);
+    }
+
+    @Override
+    default <TResult> IParallelEnumerable<TResult> selectMany(Func1<? super TSource, ? extends IEnumerable<? extends TResult>> selector) {
+        return ParallelEnumerable.selectMany(this, (Func1<TSource, IEnumerable<TResult>>) selector);
+    }
+
+    @Override
+    default double sumDouble(DoubleFunc1<? super TSource> selector) {
+        return ParallelEnumerable.sumDouble(this, (DoubleFunc1<TSource>) selector);
+    }
+
+    @Override
+    default int sumInt(IntFunc1<? super TSource> selector) {
+        return ParallelEnumerable.sumInt(this, (IntFunc1<TSource>) selector);
+    }
+
+    @Override
+    default long sumLong(LongFunc1<? super TSource> selector) {
+        return ParallelEnumerable.sumLong(this, (LongFunc1<TSource>) selector);
+    }
+
+    @Override
+    default <TKey> ILookup<TKey, TSource> toLookup(Func1<? super TSource, ? extends TKey> keySelector) {
+        return ParallelEnumerable.toLookup(this, (Func1<TSource, TKey>) keySelector, null);
+    }
+
+    @Override
+    default <TKey> ILookup<TKey, TSource> toLookup(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.toLookup(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return ParallelEnumerable.toLookup(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, null);
+    }
+
+    @Override
+    default <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.toLookup(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    default IParallelEnumerable<TSource> where(Predicate1<? super TSource> predicate) {
+        return ParallelEnumerable.where(this, (Predicate1<TSource>) predicate);
+    }
+}
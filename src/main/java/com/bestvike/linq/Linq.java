@@ -4,10 +4,13 @@ import com.bestvike.function.Func0;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Predicate0;
 import com.bestvike.function.Predicate1;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
 import com.bestvike.linq.enumerable.Enumerable;
 import com.bestvike.linq.enumerable.Enumerate;
 import com.bestvike.linq.enumerable.Infinite;
+import com.bestvike.linq.enumerable.IntEnumerable;
 import com.bestvike.linq.enumerable.Iterate;
+import com.bestvike.linq.enumerable.LongEnumerable;
 import com.bestvike.linq.enumerable.Loop;
 import com.bestvike.linq.enumerable.Range;
 import com.bestvike.linq.enumerable.Repeat;
@@ -58,10 +61,18 @@ public final class Linq {
         return Enumerable.of(source);
     }
 
+    public static IIntEnumerable ofInt(int[] source) {
+        return IntEnumerable.of(source);
+    }
+
     public static IEnumerable<Long> of(long[] source) {
         return Enumerable.of(source);
     }
 
+    public static ILongEnumerable ofLong(long[] source) {
+        return LongEnumerable.of(source);
+    }
+
     public static IEnumerable<Float> of(float[] source) {
         return Enumerable.of(source);
     }
@@ -70,6 +81,10 @@ public final class Linq {
         return Enumerable.of(source);
     }
 
+    public static IDoubleEnumerable ofDouble(double[] source) {
+        return DoubleEnumerable.of(source);
+    }
+
     public static IEnumerable<Character> of(char[] source) {
         return Enumerable.of(source);
     }
@@ -194,6 +209,10 @@ public final class Linq {
         return Range.range(start, count);
     }
 
+    public static IIntEnumerable rangeInt(int start, int count) {
+        return IntEnumerable.range(start, count);
+    }
+
     public static <TResult> IEnumerable<TResult> repeat(TResult element, int count) {
         return Repeat.repeat(element, count);
     }
@@ -11,7 +11,6 @@ import com.bestvike.linq.util.ArrayUtils;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Created by 许崇雷 on 2019-04-16.
@@ -42,8 +41,9 @@ public final class DoubleArrayEnumerable implements IArray<Double> {
     public int _indexOf(Double item) {
         if (item == null)
             return -1;
+        double value = item;
         for (int i = 0; i < this.source.length; i++) {
-            if (this.source[i] == item)
+            if (this.source[i] == value)
                 return i;
         }
         return -1;
@@ -53,8 +53,9 @@ public final class DoubleArrayEnumerable implements IArray<Double> {
     public int _lastIndexOf(Double item) {
         if (item == null)
             return -1;
+        double value = item;
         for (int i = this.source.length - 1; i >= 0; i--) {
-            if (this.source[i] == item)
+            if (this.source[i] == value)
                 return i;
         }
         return -1;
@@ -94,8 +95,12 @@ public final class DoubleArrayEnumerable implements IArray<Double> {
 
     @Override
     public boolean _contains(Double item) {
+        if (item == null)
+            return false;
+        // same as Double.equals, NaN equals NaN and 0.0 differs from -0.0
+        long bits = Double.doubleToLongBits(item);
         for (double value : this.source) {
-            if (Objects.equals(value, item))
+            if (Double.doubleToLongBits(value) == bits)
                 return true;
         }
         return false;
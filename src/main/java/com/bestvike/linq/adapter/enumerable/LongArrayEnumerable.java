@@ -11,7 +11,6 @@ import com.bestvike.linq.util.ArrayUtils;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Created by 许崇雷 on 2019-04-16.
@@ -42,8 +41,9 @@ public final class LongArrayEnumerable implements IArray<Long> {
     public int _indexOf(Long item) {
         if (item == null)
             return -1;
+        long value = item;
         for (int i = 0; i < this.source.length; i++) {
-            if (this.source[i] == item)
+            if (this.source[i] == value)
                 return i;
         }
         return -1;
@@ -53,8 +53,9 @@ public final class LongArrayEnumerable implements IArray<Long> {
     public int _lastIndexOf(Long item) {
         if (item == null)
             return -1;
+        long value = item;
         for (int i = this.source.length - 1; i >= 0; i--) {
-            if (this.source[i] == item)
+            if (this.source[i] == value)
                 return i;
         }
         return -1;
@@ -94,8 +95,11 @@ public final class LongArrayEnumerable implements IArray<Long> {
 
     @Override
     public boolean _contains(Long item) {
+        if (item == null)
+            return false;
+        long x = item;
         for (long value : this.source) {
-            if (Objects.equals(value, item))
+            if (value == x)
                 return true;
         }
         return false;
@@ -0,0 +1,27 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IDoubleEnumerator;
+
+/**
+ * double 迭代器,初始 state 为 0
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public abstract class AbstractDoubleEnumerator implements IDoubleEnumerator {
+    protected int state;
+    protected double current;
+
+    @Override
+    public abstract boolean moveNext();
+
+    @Override
+    public double current() {
+        return this.current;
+    }
+
+    @Override
+    public void close() {
+        this.current = 0;
+        this.state = -1;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IDoubleEnumerator;
+
+/**
+ * double 迭代对象,初始 state 为 1
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public abstract class AbstractDoubleIterator extends AbstractDoubleEnumerator implements IDoubleEnumerable {
+    private final long threadId;
+
+    public AbstractDoubleIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract AbstractDoubleIterator clone();
+
+    @Override
+    public IDoubleEnumerator enumerator() {
+        AbstractDoubleIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+}
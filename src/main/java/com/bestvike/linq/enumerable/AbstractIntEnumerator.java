@@ -0,0 +1,27 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IIntEnumerator;
+
+/**
+ * int 迭代器,初始 state 为 0
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public abstract class AbstractIntEnumerator implements IIntEnumerator {
+    protected int state;
+    protected int current;
+
+    @Override
+    public abstract boolean moveNext();
+
+    @Override
+    public int current() {
+        return this.current;
+    }
+
+    @Override
+    public void close() {
+        this.current = 0;
+        this.state = -1;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.IIntEnumerator;
+
+/**
+ * int 迭代对象,初始 state 为 1
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public abstract class AbstractIntIterator extends AbstractIntEnumerator implements IIntEnumerable {
+    private final long threadId;
+
+    public AbstractIntIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract AbstractIntIterator clone();
+
+    @Override
+    public IIntEnumerator enumerator() {
+        AbstractIntIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+}
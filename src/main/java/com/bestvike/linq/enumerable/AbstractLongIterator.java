@@ -0,0 +1,27 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.ILongEnumerator;
+
+/**
+ * long 迭代对象,初始 state 为 1
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public abstract class AbstractLongIterator extends AbstractLongEnumerator implements ILongEnumerable {
+    private final long threadId;
+
+    public AbstractLongIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract AbstractLongIterator clone();
+
+    @Override
+    public ILongEnumerator enumerator() {
+        AbstractLongIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+}
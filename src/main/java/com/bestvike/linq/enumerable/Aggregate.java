@@ -3,7 +3,6 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
 import com.bestvike.linq.IEnumerable;
-import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
@@ -20,15 +19,18 @@ public final class Aggregate {
         if (func == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
 
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            if (!e.moveNext())
-                ThrowHelper.throwNoElementsException();
-
-            TSource result = e.current();
-            while (e.moveNext())
-                result = func.apply(result, e.current());
-            return result;
-        }
+        Object[] result = {null};
+        boolean[] any = {false};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            //noinspection unchecked
+            result[0] = any[0] ? func.apply((TSource) result[0], x) : x;
+            any[0] = true;
+            return false;
+        });
+        if (!any[0])
+            ThrowHelper.throwNoElementsException();
+        //noinspection unchecked
+        return (TSource) result[0];
     }
 
     public static <TSource, TAccumulate> TAccumulate aggregate(IEnumerable<TSource> source, TAccumulate seed, Func2<TAccumulate, TSource, TAccumulate> func) {
@@ -37,12 +39,14 @@ public final class Aggregate {
         if (func == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
 
-        TAccumulate result = seed;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                result = func.apply(result, e.current());
-        }
-        return result;
+        Object[] result = {seed};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            //noinspection unchecked
+            result[0] = func.apply((TAccumulate) result[0], x);
+            return false;
+        });
+        //noinspection unchecked
+        return (TAccumulate) result[0];
     }
 
     public static <TSource, TAccumulate, TResult> TResult aggregate(IEnumerable<TSource> source, TAccumulate seed, Func2<TAccumulate, TSource, TAccumulate> func, Func1<TAccumulate, TResult> resultSelector) {
@@ -53,11 +57,13 @@ public final class Aggregate {
         if (resultSelector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
 
-        TAccumulate result = seed;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                result = func.apply(result, e.current());
-        }
-        return resultSelector.apply(result);
+        Object[] result = {seed};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            //noinspection unchecked
+            result[0] = func.apply((TAccumulate) result[0], x);
+            return false;
+        });
+        //noinspection unchecked
+        return resultSelector.apply((TAccumulate) result[0]);
     }
 }
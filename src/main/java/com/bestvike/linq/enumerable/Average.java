@@ -1,5 +1,6 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.collections.generic.IArray;
 import com.bestvike.function.DecimalFunc1;
 import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.FloatFunc1;
@@ -29,6 +30,13 @@ public final class Average {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
+        if (source instanceof IArray) {
+            IArray<Integer> array = (IArray<Integer>) source;
+            Object values = array.getArray();
+            if (values instanceof int[])
+                return IntEnumerable.average(new IntArrayIterator((int[]) values, array._getStartIndex(), array._getEndIndex()));
+        }
+
         try (IEnumerator<Integer> e = source.enumerator()) {
             if (!e.moveNext())
                 ThrowHelper.throwNoElementsException();
@@ -71,6 +79,13 @@ public final class Average {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
+        if (source instanceof IArray) {
+            IArray<Long> array = (IArray<Long>) source;
+            Object values = array.getArray();
+            if (values instanceof long[])
+                return LongEnumerable.average(new LongArrayIterator((long[]) values, array._getStartIndex(), array._getEndIndex()));
+        }
+
         try (IEnumerator<Long> e = source.enumerator()) {
             if (!e.moveNext())
                 ThrowHelper.throwNoElementsException();
@@ -155,6 +170,13 @@ public final class Average {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
+        if (source instanceof IArray) {
+            IArray<Double> array = (IArray<Double>) source;
+            Object values = array.getArray();
+            if (values instanceof double[])
+                return DoubleEnumerable.average(new DoubleArrayIterator((double[]) values, array._getStartIndex(), array._getEndIndex()));
+        }
+
         try (IEnumerator<Double> e = source.enumerator()) {
             if (!e.moveNext())
                 ThrowHelper.throwNoElementsException();
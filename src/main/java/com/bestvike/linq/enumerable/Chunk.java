@@ -0,0 +1,426 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.IArray;
+import com.bestvike.collections.generic.IArrayList;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.debug.DebuggerDisplay;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.linq.util.ListUtils;
+import com.bestvike.out;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class Chunk {
+    private Chunk() {
+    }
+
+    public static <TSource> IEnumerable<IArrayList<TSource>> chunk(IEnumerable<TSource> source, int size) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (size < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.size);
+
+        if (source instanceof IArrayList)
+            return new ListChunkIterator<>((IArrayList<TSource>) source, size, 0, Integer.MAX_VALUE);
+
+        return new ChunkIterator<>(source, size);
+    }
+
+    // The number of chunks of the specified size needed to hold count elements.
+    static int chunkCount(int count, int size) {
+        return count / size + (count % size == 0 ? 0 : 1);
+    }
+}
+
+
+// Copies the elements of the source into a fresh array for each chunk, only the last chunk may be shorter than size.
+final class ChunkIterator<TSource> extends Iterator<IArrayList<TSource>> implements IIListProvider<IArrayList<TSource>> {
+    private static final int DEFAULT_CAPACITY = 4;
+    private final IEnumerable<TSource> source;
+    private final int size;
+    private IEnumerator<TSource> enumerator;
+    private int capacity;
+
+    ChunkIterator(IEnumerable<TSource> source, int size) {
+        assert source != null;
+        assert size > 0;
+        this.source = source;
+        this.size = size;
+    }
+
+    @Override
+    public Iterator<IArrayList<TSource>> clone() {
+        return new ChunkIterator<>(this.source, this.size);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                // Start small in case the source is much shorter than size, later chunks start at the length the previous one reached.
+                this.capacity = Math.min(this.size, DEFAULT_CAPACITY);
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    Object[] array = new Object[this.capacity];
+                    array[0] = this.enumerator.current();
+                    int count = 1;
+                    while (count < this.size && this.enumerator.moveNext()) {
+                        if (count == array.length) {
+                            this.capacity = (int) Math.min(this.size, array.length * 2L);
+                            array = Arrays.copyOf(array, this.capacity);
+                        }
+                        array[count++] = this.enumerator.current();
+                    }
+                    this.current = new Array<>(count == array.length ? array : Arrays.copyOf(array, count));
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    @Override
+    public IArrayList<TSource>[] _toArray(Class<IArrayList<TSource>> clazz) {
+        LargeArrayBuilder<IArrayList<TSource>> builder = this.toBuilder();
+        return builder.toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        LargeArrayBuilder<IArrayList<TSource>> builder = this.toBuilder();
+        return builder.toArray();
+    }
+
+    private LargeArrayBuilder<IArrayList<TSource>> toBuilder() {
+        int count = this._getCount(true);
+        LargeArrayBuilder<IArrayList<TSource>> builder = count == -1 ? new LargeArrayBuilder<>() : new LargeArrayBuilder<>(count);
+        try (IEnumerator<IArrayList<TSource>> e = this.enumerator()) {
+            while (e.moveNext())
+                builder.add(e.current());
+        }
+        return builder;
+    }
+
+    @Override
+    public List<IArrayList<TSource>> _toList() {
+        int count = this._getCount(true);
+        List<IArrayList<TSource>> list = count == -1 ? new ArrayList<>() : new ArrayList<>(count);
+        try (IEnumerator<IArrayList<TSource>> e = this.enumerator()) {
+            while (e.moveNext())
+                list.add(e.current());
+        }
+        return list;
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        out<Integer> countRef = out.init();
+        if (EnumerableHelpers.tryGetCount(this.source, countRef))
+            return Chunk.chunkCount(countRef.value, this.size);
+        return onlyIfCheap ? -1 : Chunk.chunkCount(Count.count(this.source), this.size);
+    }
+}
+
+
+// Yields views over consecutive ranges of the list, no element is copied. minIndexInclusive and maxIndexInclusive are chunk indexes.
+@DebuggerDisplay("Count = {_getCount()}")
+final class ListChunkIterator<TSource> extends Iterator<IArrayList<TSource>> implements IPartition<IArrayList<TSource>> {
+    private final IArrayList<TSource> source;
+    private final int size;
+    private final int minIndexInclusive;
+    private final int maxIndexInclusive;
+
+    ListChunkIterator(IArrayList<TSource> source, int size, int minIndexInclusive, int maxIndexInclusive) {
+        assert source != null;
+        assert size > 0;
+        assert minIndexInclusive >= 0;
+        assert minIndexInclusive <= maxIndexInclusive;
+        this.source = source;
+        this.size = size;
+        this.minIndexInclusive = minIndexInclusive;
+        this.maxIndexInclusive = maxIndexInclusive;
+    }
+
+    @Override
+    public Iterator<IArrayList<TSource>> clone() {
+        return new ListChunkIterator<>(this.source, this.size, this.minIndexInclusive, this.maxIndexInclusive);
+    }
+
+    // The chunk at the specified index relative to minIndexInclusive, null if there is none.
+    private IArrayList<TSource> chunkAt(int index) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) > 0)
+            return null;
+        long start = (long) (this.minIndexInclusive + index) * this.size;
+        int count = this.source._getCount();
+        if (start >= count)
+            return null;
+        return ListSegment.create(this.source, (int) start, (int) Math.min(this.size, count - start));
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 is the index of the next chunk, see ListPartition.
+        if (this.state == -1)
+            return false;
+        IArrayList<TSource> chunk = this.chunkAt(this.state - 1);
+        if (chunk != null) {
+            this.current = chunk;
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public boolean _forEachUntil(Predicate1<IArrayList<TSource>> action) {
+        for (int i = 0, count = this._getCount(); i < count; i++) {
+            if (action.apply(this.chunkAt(i)))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public IPartition<IArrayList<TSource>> _skip(int count) {
+        int minIndex = this.minIndexInclusive + count;
+        return Integer.compareUnsigned(minIndex, this.maxIndexInclusive) > 0 ? EmptyPartition.instance() : new ListChunkIterator<>(this.source, this.size, minIndex, this.maxIndexInclusive);
+    }
+
+    @Override
+    public IPartition<IArrayList<TSource>> _take(int count) {
+        int maxIndex = this.minIndexInclusive + count - 1;
+        return Integer.compareUnsigned(maxIndex, this.maxIndexInclusive) >= 0 ? this : new ListChunkIterator<>(this.source, this.size, this.minIndexInclusive, maxIndex);
+    }
+
+    @Override
+    public IArrayList<TSource> _tryGetElementAt(int index, out<Boolean> found) {
+        IArrayList<TSource> chunk = this.chunkAt(index);
+        found.value = chunk != null;
+        return chunk;
+    }
+
+    @Override
+    public IArrayList<TSource> _tryGetFirst(out<Boolean> found) {
+        return this._tryGetElementAt(0, found);
+    }
+
+    @Override
+    public IArrayList<TSource> _tryGetLast(out<Boolean> found) {
+        int count = this._getCount();
+        if (count > 0)
+            return this._tryGetElementAt(count - 1, found);
+
+        found.value = false;
+        return null;
+    }
+
+    private int _getCount() {
+        int count = Chunk.chunkCount(this.source._getCount(), this.size);
+        if (count <= this.minIndexInclusive)
+            return 0;
+
+        return Math.min(count - 1, this.maxIndexInclusive) - this.minIndexInclusive + 1;
+    }
+
+    @Override
+    public IArrayList<TSource>[] _toArray(Class<IArrayList<TSource>> clazz) {
+        int count = this._getCount();
+        if (count == 0)
+            return ArrayUtils.empty(clazz);
+
+        IArrayList<TSource>[] array = ArrayUtils.newInstance(clazz, count);
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.chunkAt(i);
+        return array;
+    }
+
+    @Override
+    public Object[] _toArray() {
+        int count = this._getCount();
+        if (count == 0)
+            return ArrayUtils.empty();
+
+        Object[] array = new Object[count];
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.chunkAt(i);
+        return array;
+    }
+
+    @Override
+    public List<IArrayList<TSource>> _toList() {
+        int count = this._getCount();
+        if (count == 0)
+            return ListUtils.empty();
+
+        List<IArrayList<TSource>> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            list.add(this.chunkAt(i));
+        return list;
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return this._getCount();
+    }
+}
+
+
+// Read only view over the range [offset, offset + count) of a list. It reflects later changes of the list.
+class ListSegment<TSource> implements IArrayList<TSource> {
+    final IArrayList<TSource> source;
+    final int offset;
+    private final int count;
+
+    ListSegment(IArrayList<TSource> source, int offset, int count) {
+        assert source != null;
+        assert offset >= 0 && count > 0;
+        this.source = source;
+        this.offset = offset;
+        this.count = count;
+    }
+
+    static <TSource> ListSegment<TSource> create(IArrayList<TSource> source, int offset, int count) {
+        return source instanceof IArray ? new ArraySegment<>((IArray<TSource>) source, offset, count) : new ListSegment<>(source, offset, count);
+    }
+
+    @Override
+    public IEnumerator<TSource> enumerator() {
+        return new ListPartition<>(this.source, this.offset, this.offset + this.count - 1).enumerator();
+    }
+
+    @Override
+    public TSource get(int index) {
+        if (Integer.compareUnsigned(index, this.count) >= 0)
+            ThrowHelper.throwIndexOutOfRangeException();
+        return this.source.get(this.offset + index);
+    }
+
+    @Override
+    public int _indexOf(TSource item) {
+        for (int i = 0; i < this.count; i++) {
+            if (Objects.equals(this.source.get(this.offset + i), item))
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int _lastIndexOf(TSource item) {
+        for (int i = this.count - 1; i >= 0; i--) {
+            if (Objects.equals(this.source.get(this.offset + i), item))
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int _findIndex(Predicate1<TSource> match) {
+        if (match == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.match);
+        for (int i = 0; i < this.count; i++) {
+            if (match.apply(this.source.get(this.offset + i)))
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int _findLastIndex(Predicate1<TSource> match) {
+        if (match == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.match);
+        for (int i = this.count - 1; i >= 0; i--) {
+            if (match.apply(this.source.get(this.offset + i)))
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public Collection<TSource> getCollection() {
+        return ArrayUtils.toCollection(this._toArray());
+    }
+
+    @Override
+    public int _getCount() {
+        return this.count;
+    }
+
+    @Override
+    public boolean _contains(TSource item) {
+        return this._indexOf(item) != -1;
+    }
+
+    @Override
+    public void _copyTo(Object[] array, int arrayIndex) {
+        for (int i = 0; i < this.count; i++)
+            array[arrayIndex++] = this.source.get(this.offset + i);
+    }
+
+    @Override
+    public TSource[] _toArray(Class<TSource> clazz) {
+        TSource[] array = ArrayUtils.newInstance(clazz, this.count);
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.source.get(this.offset + i);
+        return array;
+    }
+
+    @Override
+    public Object[] _toArray() {
+        Object[] array = new Object[this.count];
+        this._copyTo(array, 0);
+        return array;
+    }
+
+    @Override
+    public List<TSource> _toList() {
+        List<TSource> list = new ArrayList<>(this.count);
+        for (int i = 0; i < this.count; i++)
+            list.add(this.source.get(this.offset + i));
+        return list;
+    }
+}
+
+
+// Exposes the backing array of the source, so the primitive array fast paths of sum, min, max and the like also apply to a chunk.
+final class ArraySegment<TSource> extends ListSegment<TSource> implements IArray<TSource> {
+    ArraySegment(IArray<TSource> source, int offset, int count) {
+        super(source, offset, count);
+    }
+
+    @Override
+    public Object getArray() {
+        return ((IArray<TSource>) this.source).getArray();
+    }
+
+    @Override
+    public int _getStartIndex() {
+        return ((IArray<TSource>) this.source)._getStartIndex() + this.offset;
+    }
+}
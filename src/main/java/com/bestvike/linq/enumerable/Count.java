@@ -3,7 +3,6 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
-import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
@@ -28,13 +27,12 @@ public final class Count {
             return listProv._getCount(false);
         }
 
-        int count = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                count = Math.addExact(count, 1);
-        }
-
-        return count;
+        int[] count = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            count[0] = Math.addExact(count[0], 1);
+            return false;
+        });
+        return count[0];
     }
 
     public static <TSource> int count(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
@@ -43,28 +41,25 @@ public final class Count {
         if (predicate == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
 
-        int count = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                if (predicate.apply(e.current()))
-                    count = Math.addExact(count, 1);
-            }
-        }
-
-        return count;
+        int[] count = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            if (predicate.apply(x))
+                count[0] = Math.addExact(count[0], 1);
+            return false;
+        });
+        return count[0];
     }
 
     public static <TSource> long longCount(IEnumerable<TSource> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        long count = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                count = Math.addExact(count, 1);
-        }
-
-        return count;
+        long[] count = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            count[0] = Math.addExact(count[0], 1);
+            return false;
+        });
+        return count[0];
     }
 
     public static <TSource> long longCount(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
@@ -73,14 +68,12 @@ public final class Count {
         if (predicate == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
 
-        long count = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                if (predicate.apply(e.current()))
-                    count = Math.addExact(count, 1);
-            }
-        }
-
-        return count;
+        long[] count = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            if (predicate.apply(x))
+                count[0] = Math.addExact(count[0], 1);
+            return false;
+        });
+        return count[0];
     }
 }
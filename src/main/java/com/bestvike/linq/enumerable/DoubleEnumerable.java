@@ -0,0 +1,583 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.DoublePredicate1;
+import com.bestvike.function.DoubleToDoubleFunc1;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IDoubleEnumerator;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class DoubleEnumerable {
+    private static final double[] EMPTY = new double[0];
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private DoubleEnumerable() {
+    }
+
+    public static IDoubleEnumerable of(double[] source) {
+        return source == null ? new DoubleArrayIterator(EMPTY, 0, 0) : new DoubleArrayIterator(source, 0, source.length);
+    }
+
+    public static <TSource> IDoubleEnumerable selectToDouble(IEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectToDoubleIterator<>(source, selector);
+    }
+
+    public static IDoubleEnumerable where(IDoubleEnumerable source, DoublePredicate1 predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return new DoubleWhereIterator(source, predicate);
+    }
+
+    public static IDoubleEnumerable select(IDoubleEnumerable source, DoubleToDoubleFunc1 selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new DoubleSelectIterator(source, selector);
+    }
+
+    public static IDoubleEnumerable distinct(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DoubleDistinctIterator(source);
+    }
+
+    public static IDoubleEnumerable orderBy(IDoubleEnumerable source, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DoubleOrderedIterator(source, descending);
+    }
+
+    public static IEnumerable<Double> boxed(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DoubleBoxedIterator(source);
+    }
+
+    public static double sum(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        double sum = 0;
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            for (int i = array.start; i < array.end; i++)
+                sum += array.source[i];
+            return sum;
+        }
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum += e.current();
+        }
+        return sum;
+    }
+
+    public static double min(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        double value;
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            if (array.start == array.end)
+                ThrowHelper.throwNoElementsException();
+            value = array.source[array.start];
+            if (Double.isNaN(value))
+                return value;
+            for (int i = array.start + 1; i < array.end; i++) {
+                double x = array.source[i];
+                if (x < value)
+                    value = x;
+                else if (Double.isNaN(x))
+                    return x;
+            }
+            return value;
+        }
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            if (Double.isNaN(value))
+                return value;
+
+            while (e.moveNext()) {
+                double x = e.current();
+                if (x < value)
+                    value = x;
+                else if (Double.isNaN(x))
+                    return x;
+            }
+        }
+        return value;
+    }
+
+    public static double max(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        double value;
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            if (array.start == array.end)
+                ThrowHelper.throwNoElementsException();
+            int i = array.start;
+            value = array.source[i];
+            while (Double.isNaN(value)) {
+                if (++i == array.end)
+                    return value;
+                value = array.source[i];
+            }
+            for (i++; i < array.end; i++) {
+                double x = array.source[i];
+                if (x > value)
+                    value = x;
+            }
+            return value;
+        }
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (Double.isNaN(value)) {
+                if (!e.moveNext())
+                    return value;
+                value = e.current();
+            }
+
+            while (e.moveNext()) {
+                double x = e.current();
+                if (x > value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static double average(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        double sum = 0;
+        long count = 0;
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            for (int i = array.start; i < array.end; i++)
+                sum += array.source[i];
+            count = array.end - array.start;
+        } else {
+            try (IDoubleEnumerator e = source.enumerator()) {
+                while (e.moveNext()) {
+                    sum += e.current();
+                    count++;
+                }
+            }
+        }
+        if (count == 0)
+            ThrowHelper.throwNoElementsException();
+        return sum / count;
+    }
+
+    public static double variance(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        // Welford's online algorithm, avoids the cancellation of sum of squares minus square of sum
+        long count = 0;
+        double mean = 0;
+        double m2 = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                double x = e.current();
+                count++;
+                double delta = x - mean;
+                mean += delta / count;
+                m2 += delta * (x - mean);
+            }
+        }
+        if (count == 0)
+            ThrowHelper.throwNoElementsException();
+        return m2 / count;
+    }
+
+    public static int count(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            return array.end - array.start;
+        }
+
+        int count = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static double[] toDoubleArray(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            return Arrays.copyOfRange(array.source, array.start, array.end);
+        }
+
+        double[] array = EMPTY;
+        int count = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == array.length)
+                    array = Arrays.copyOf(array, count == 0 ? DEFAULT_CAPACITY : Math.multiplyExact(count, 2));
+                array[count++] = e.current();
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+}
+
+
+final class DoubleArrayIterator extends AbstractDoubleIterator {
+    final double[] source;
+    final int start;
+    final int end;
+    private int index;
+
+    DoubleArrayIterator(double[] source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new DoubleArrayIterator(this.source, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.index = this.start;
+                this.state = 2;
+            case 2:
+                if (this.index < this.end) {
+                    this.current = this.source[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class SelectToDoubleIterator<TSource> extends AbstractDoubleIterator {
+    private final IEnumerable<TSource> source;
+    private final DoubleFunc1<TSource> selector;
+    private IEnumerator<TSource> enumerator;
+
+    SelectToDoubleIterator(IEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new SelectToDoubleIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DoubleWhereIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private final DoublePredicate1 predicate;
+    private IDoubleEnumerator enumerator;
+
+    DoubleWhereIterator(IDoubleEnumerable source, DoublePredicate1 predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new DoubleWhereIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    double item = this.enumerator.current();
+                    if (this.predicate.apply(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DoubleSelectIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private final DoubleToDoubleFunc1 selector;
+    private IDoubleEnumerator enumerator;
+
+    DoubleSelectIterator(IDoubleEnumerable source, DoubleToDoubleFunc1 selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new DoubleSelectIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DoubleDistinctIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private IDoubleEnumerator enumerator;
+    private LongSet set;
+
+    DoubleDistinctIterator(IDoubleEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new DoubleDistinctIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new LongSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    double item = this.enumerator.current();
+                    // same identity as Double.equals, NaN equals NaN and 0.0 differs from -0.0
+                    if (this.set.add(Double.doubleToLongBits(item))) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DoubleOrderedIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private final boolean descending;
+    private double[] buffer;
+    private int index;
+
+    DoubleOrderedIterator(IDoubleEnumerable source, boolean descending) {
+        this.source = source;
+        this.descending = descending;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new DoubleOrderedIterator(this.source, this.descending);
+    }
+
+    double[] sortedArray() {
+        double[] array = DoubleEnumerable.toDoubleArray(this.source);
+        Arrays.sort(array);
+        if (this.descending) {
+            for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+                double temp = array[i];
+                array[i] = array[j];
+                array[j] = temp;
+            }
+        }
+        return array;
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.buffer = this.sortedArray();
+                this.index = 0;
+                this.state = 2;
+            case 2:
+                if (this.index < this.buffer.length) {
+                    this.current = this.buffer[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.buffer = null;
+        super.close();
+    }
+}
+
+
+final class DoubleBoxedIterator extends AbstractIterator<Double> {
+    private final IDoubleEnumerable source;
+    private IDoubleEnumerator enumerator;
+
+    DoubleBoxedIterator(IDoubleEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public AbstractIterator<Double> clone() {
+        return new DoubleBoxedIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
@@ -5,6 +5,7 @@ import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
@@ -36,6 +37,7 @@ public final class GroupJoin {
 }
 
 
+@DebuggerDisplay("Build = {buildSide(),nq}")
 final class GroupJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
     private final IEnumerable<TOuter> outer;
     private final IEnumerable<TInner> inner;
@@ -44,7 +46,9 @@ final class GroupJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
     private final Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
     private IEnumerator<TOuter> outerEnumerator;
+    private JoinOuterBuffer<TOuter, TKey> outerBuffer;
     private Lookup<TKey, TInner> lookup;
+    private String buildSide;
 
     GroupJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
         this.outer = outer;
@@ -64,6 +68,19 @@ final class GroupJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
     public boolean moveNext() {
         switch (this.state) {
             case 1:
+                boolean buildOuter = JoinOuterBuffer.preferred(this.outer, this.inner);
+                this.buildSide = buildOuter ? "outer" : "inner";
+                if (buildOuter) {
+                    this.outerBuffer = new JoinOuterBuffer<>(this.outer, this.outerKeySelector);
+                    if (!this.outerBuffer.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                    this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer, this.outerBuffer.keys());
+                    this.current = this.resultSelector.apply(this.outerBuffer.current(), this.lookup.fetch(this.outerBuffer.currentKey()));
+                    this.state = 3;
+                    return true;
+                }
                 this.outerEnumerator = this.outer.enumerator();
                 if (!this.outerEnumerator.moveNext()) {
                     this.close();
@@ -82,6 +99,13 @@ final class GroupJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
                 }
                 this.close();
                 return false;
+            case 3:
+                if (this.outerBuffer.moveNext()) {
+                    this.current = this.resultSelector.apply(this.outerBuffer.current(), this.lookup.fetch(this.outerBuffer.currentKey()));
+                    return true;
+                }
+                this.close();
+                return false;
             default:
                 return false;
         }
@@ -92,8 +116,14 @@ final class GroupJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
         if (this.outerEnumerator != null) {
             this.outerEnumerator.close();
             this.outerEnumerator = null;
-            this.lookup = null;
         }
+        this.outerBuffer = null;
+        this.lookup = null;
         super.close();
     }
+
+    @SuppressWarnings("unused")
+    private String buildSide() {
+        return this.buildSide == null ? "pending" : this.buildSide;
+    }
 }
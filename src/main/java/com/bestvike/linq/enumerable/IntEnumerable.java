@@ -0,0 +1,752 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.IntPredicate1;
+import com.bestvike.function.IntToIntFunc1;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.IIntEnumerator;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class IntEnumerable {
+    private static final int[] EMPTY = new int[0];
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private IntEnumerable() {
+    }
+
+    public static IIntEnumerable of(int[] source) {
+        return source == null ? new IntArrayIterator(EMPTY, 0, 0) : new IntArrayIterator(source, 0, source.length);
+    }
+
+    public static IIntEnumerable range(int start, int count) {
+        long max = (long) start + count - 1;
+        if (count < 0 || max > Integer.MAX_VALUE)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.count);
+
+        return new IntRangeIterator(start, count);
+    }
+
+    public static <TSource> IIntEnumerable selectToInt(IEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectToIntIterator<>(source, selector);
+    }
+
+    public static IIntEnumerable where(IIntEnumerable source, IntPredicate1 predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return new IntWhereIterator(source, predicate);
+    }
+
+    public static IIntEnumerable select(IIntEnumerable source, IntToIntFunc1 selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new IntSelectIterator(source, selector);
+    }
+
+    public static IIntEnumerable distinct(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntDistinctIterator(source);
+    }
+
+    public static IIntEnumerable orderBy(IIntEnumerable source, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntOrderedIterator(source, descending);
+    }
+
+    public static ILongEnumerable asLongEnumerable(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntToLongIterator(source);
+    }
+
+    public static IDoubleEnumerable asDoubleEnumerable(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntToDoubleIterator(source);
+    }
+
+    public static IEnumerable<Integer> boxed(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntBoxedIterator(source);
+    }
+
+    public static int sum(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        int sum = 0;
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            for (int i = array.start; i < array.end; i++)
+                sum = Math.addExact(sum, array.source[i]);
+            return sum;
+        }
+
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum = Math.addExact(sum, e.current());
+        }
+        return sum;
+    }
+
+    public static int min(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        int value;
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            if (array.start == array.end)
+                ThrowHelper.throwNoElementsException();
+            value = array.source[array.start];
+            for (int i = array.start + 1; i < array.end; i++) {
+                int x = array.source[i];
+                if (x < value)
+                    value = x;
+            }
+            return value;
+        }
+
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (e.moveNext()) {
+                int x = e.current();
+                if (x < value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static int max(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        int value;
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            if (array.start == array.end)
+                ThrowHelper.throwNoElementsException();
+            value = array.source[array.start];
+            for (int i = array.start + 1; i < array.end; i++) {
+                int x = array.source[i];
+                if (x > value)
+                    value = x;
+            }
+            return value;
+        }
+
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (e.moveNext()) {
+                int x = e.current();
+                if (x > value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static double average(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long sum = 0;
+        long count = 0;
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            for (int i = array.start; i < array.end; i++)
+                sum += array.source[i];
+            count = array.end - array.start;
+        } else {
+            try (IIntEnumerator e = source.enumerator()) {
+                while (e.moveNext()) {
+                    sum = Math.addExact(sum, e.current());
+                    count++;
+                }
+            }
+        }
+        if (count == 0)
+            ThrowHelper.throwNoElementsException();
+        return (double) sum / count;
+    }
+
+    public static int count(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            return array.end - array.start;
+        }
+        if (source instanceof IntRangeIterator) {
+            IntRangeIterator range = (IntRangeIterator) source;
+            return range.end - range.start;
+        }
+
+        int count = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static int[] toIntArray(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            return Arrays.copyOfRange(array.source, array.start, array.end);
+        }
+        if (source instanceof IntRangeIterator) {
+            IntRangeIterator range = (IntRangeIterator) source;
+            int[] array = new int[range.end - range.start];
+            for (int i = 0; i < array.length; i++)
+                array[i] = range.start + i;
+            return array;
+        }
+
+        int[] array = EMPTY;
+        int count = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == array.length)
+                    array = Arrays.copyOf(array, count == 0 ? DEFAULT_CAPACITY : Math.multiplyExact(count, 2));
+                array[count++] = e.current();
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+}
+
+
+final class IntArrayIterator extends AbstractIntIterator {
+    final int[] source;
+    final int start;
+    final int end;
+    private int index;
+
+    IntArrayIterator(int[] source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntArrayIterator(this.source, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.index = this.start;
+                this.state = 2;
+            case 2:
+                if (this.index < this.end) {
+                    this.current = this.source[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class IntRangeIterator extends AbstractIntIterator {
+    final int start;
+    final int end;
+
+    IntRangeIterator(int start, int count) {
+        this.start = start;
+        this.end = start + count;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntRangeIterator(this.start, this.end - this.start);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                if (this.start == this.end) {
+                    this.close();
+                    return false;
+                }
+                this.current = this.start;
+                this.state = 2;
+                return true;
+            case 2:
+                if (++this.current == this.end) {
+                    this.close();
+                    return false;
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class SelectToIntIterator<TSource> extends AbstractIntIterator {
+    private final IEnumerable<TSource> source;
+    private final IntFunc1<TSource> selector;
+    private IEnumerator<TSource> enumerator;
+
+    SelectToIntIterator(IEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new SelectToIntIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntWhereIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private final IntPredicate1 predicate;
+    private IIntEnumerator enumerator;
+
+    IntWhereIterator(IIntEnumerable source, IntPredicate1 predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntWhereIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    int item = this.enumerator.current();
+                    if (this.predicate.apply(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntSelectIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private final IntToIntFunc1 selector;
+    private IIntEnumerator enumerator;
+
+    IntSelectIterator(IIntEnumerable source, IntToIntFunc1 selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntSelectIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntDistinctIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private IIntEnumerator enumerator;
+    private IntSet set;
+
+    IntDistinctIterator(IIntEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntDistinctIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new IntSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    int item = this.enumerator.current();
+                    if (this.set.add(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntOrderedIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private final boolean descending;
+    private int[] buffer;
+    private int index;
+
+    IntOrderedIterator(IIntEnumerable source, boolean descending) {
+        this.source = source;
+        this.descending = descending;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntOrderedIterator(this.source, this.descending);
+    }
+
+    int[] sortedArray() {
+        int[] array = IntEnumerable.toIntArray(this.source);
+        Arrays.sort(array);
+        if (this.descending) {
+            for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+                int temp = array[i];
+                array[i] = array[j];
+                array[j] = temp;
+            }
+        }
+        return array;
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.buffer = this.sortedArray();
+                this.index = 0;
+                this.state = 2;
+            case 2:
+                if (this.index < this.buffer.length) {
+                    this.current = this.buffer[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.buffer = null;
+        super.close();
+    }
+}
+
+
+final class IntToLongIterator extends AbstractLongIterator {
+    private final IIntEnumerable source;
+    private IIntEnumerator enumerator;
+
+    IntToLongIterator(IIntEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new IntToLongIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntToDoubleIterator extends AbstractDoubleIterator {
+    private final IIntEnumerable source;
+    private IIntEnumerator enumerator;
+
+    IntToDoubleIterator(IIntEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new IntToDoubleIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntBoxedIterator extends AbstractIterator<Integer> {
+    private final IIntEnumerable source;
+    private IIntEnumerator enumerator;
+
+    IntBoxedIterator(IIntEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public AbstractIterator<Integer> clone() {
+        return new IntBoxedIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+/**
+ * Open addressing set of int values, 0 is tracked apart because it marks an empty slot.
+ */
+final class IntSet {
+    private static final int DEFAULT_CAPACITY = 16;
+    private int[] slots;
+    private int count;
+    private boolean hasZero;
+
+    IntSet() {
+        this.slots = new int[DEFAULT_CAPACITY];
+    }
+
+    boolean add(int value) {
+        if (value == 0) {
+            if (this.hasZero)
+                return false;
+            this.hasZero = true;
+            return true;
+        }
+        int mask = this.slots.length - 1;
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            int slot = this.slots[i];
+            if (slot == 0) {
+                this.slots[i] = value;
+                if (++this.count << 1 > this.slots.length)
+                    this.resize();
+                return true;
+            }
+            if (slot == value)
+                return false;
+        }
+    }
+
+    private void resize() {
+        int[] oldSlots = this.slots;
+        int[] newSlots = new int[Math.multiplyExact(oldSlots.length, 2)];
+        int mask = newSlots.length - 1;
+        for (int value : oldSlots) {
+            if (value == 0)
+                continue;
+            int i = mix(value) & mask;
+            while (newSlots[i] != 0)
+                i = (i + 1) & mask;
+            newSlots[i] = value;
+        }
+        this.slots = newSlots;
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
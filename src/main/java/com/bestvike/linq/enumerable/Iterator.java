@@ -3,6 +3,11 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.function.Consumer;
 
 /**
  * Created by 许崇雷 on 2017-07-10.
@@ -16,6 +21,36 @@ public abstract class Iterator<TSource> extends AbstractIterator<TSource> {
     }
 
     public IEnumerable<TSource> _where(Predicate1<TSource> predicate) {
-        return new WhereEnumerableIterator<>(this, predicate);
+        FusedIterator<?, TSource> fused = this._fuse();
+        return fused == null
+                ? new WhereEnumerableIterator<>(this, predicate)
+                : fused._where(predicate);
+    }
+
+    // Pushes the elements to the action until it returns true, returns whether the action stopped the iteration.
+    // Subclasses override it with a loop over their source, so terminal operators need no moveNext and current per element.
+    public boolean _forEachUntil(Predicate1<TSource> action) {
+        try (IEnumerator<TSource> e = this.enumerator()) {
+            while (e.moveNext()) {
+                if (action.apply(e.current()))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEach(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+        this._forEachUntil(item -> {
+            action.accept(item);
+            return false;
+        });
+    }
+
+    // Returns an equivalent pipeline whose where and select stages run in one loop over the source, or null if this iterator is not made of such stages.
+    FusedIterator<?, TSource> _fuse() {
+        return null;
     }
 }
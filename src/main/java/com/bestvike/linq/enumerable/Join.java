@@ -1,15 +1,31 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.EqualityComparer;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
+import com.bestvike.linq.IElementCodec;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.out;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 /**
@@ -38,6 +54,16 @@ public final class Join {
         return new JoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer);
     }
 
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IElementCodec<TOuter> outerCodec, IElementCodec<TInner> innerCodec, int maxElementsInMemory) {
+        return join(outer, inner, outerKeySelector, innerKeySelector, resultSelector, null, outerCodec, innerCodec, maxElementsInMemory);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer, IElementCodec<TOuter> outerCodec, IElementCodec<TInner> innerCodec, int maxElementsInMemory) {
+        checkSpillArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerCodec, innerCodec, maxElementsInMemory);
+
+        return new SpillingJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, false, null, resultSelector, comparer, outerCodec, innerCodec, maxElementsInMemory);
+    }
+
     public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
         return leftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
     }
@@ -65,6 +91,16 @@ public final class Join {
         return new LeftJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, defaultInner, resultSelector, comparer);
     }
 
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IElementCodec<TOuter> outerCodec, IElementCodec<TInner> innerCodec, int maxElementsInMemory) {
+        return leftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null, outerCodec, innerCodec, maxElementsInMemory);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer, IElementCodec<TOuter> outerCodec, IElementCodec<TInner> innerCodec, int maxElementsInMemory) {
+        checkSpillArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerCodec, innerCodec, maxElementsInMemory);
+
+        return new SpillingJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, true, defaultInner, resultSelector, comparer, outerCodec, innerCodec, maxElementsInMemory);
+    }
+
     public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> rightJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
         return rightJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
     }
@@ -129,9 +165,29 @@ public final class Join {
 
         return new CrossJoinIterator<>(outer, inner, resultSelector);
     }
+
+    private static void checkSpillArguments(IEnumerable<?> outer, IEnumerable<?> inner, Func1<?, ?> outerKeySelector, Func1<?, ?> innerKeySelector, Func2<?, ?, ?> resultSelector, IElementCodec<?> outerCodec, IElementCodec<?> innerCodec, int maxElementsInMemory) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+        if (outerCodec == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerCodec);
+        if (innerCodec == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerCodec);
+        if (maxElementsInMemory < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.maxElementsInMemory);
+    }
 }
 
 
+@DebuggerDisplay("Build = {buildSide(),nq}")
 final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
     private final IEnumerable<TOuter> outer;
     private final IEnumerable<TInner> inner;
@@ -140,7 +196,9 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
     private final Func2<TOuter, TInner, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
     private IEnumerator<TOuter> outerEnumerator;
+    private JoinOuterBuffer<TOuter, TKey> outerBuffer;
     private Lookup<TKey, TInner> lookup;
+    private String buildSide;
     private TOuter item;
     private Grouping<TKey, TInner> g;
     private int index;
@@ -164,20 +222,36 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
         do {
             switch (this.state) {
                 case 1:
-                    this.outerEnumerator = this.outer.enumerator();
-                    if (!this.outerEnumerator.moveNext()) {
-                        this.close();
-                        return false;
+                    boolean buildOuter = JoinOuterBuffer.preferred(this.outer, this.inner);
+                    this.buildSide = buildOuter ? "outer" : "inner";
+                    if (buildOuter) {
+                        this.outerBuffer = new JoinOuterBuffer<>(this.outer, this.outerKeySelector);
+                        if (!this.outerBuffer.moveNext()) {
+                            this.close();
+                            return false;
+                        }
+                        this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer, this.outerBuffer.keys());
+                    } else {
+                        this.outerEnumerator = this.outer.enumerator();
+                        if (!this.outerEnumerator.moveNext()) {
+                            this.close();
+                            return false;
+                        }
+                        this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
                     }
-                    this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
                     if (this.lookup.getCount() == 0) {
                         this.close();
                         return false;
                     }
                     this.state = 2;
                 case 2:
-                    this.item = this.outerEnumerator.current();
-                    this.g = this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
+                    if (this.outerBuffer == null) {
+                        this.item = this.outerEnumerator.current();
+                        this.g = this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
+                    } else {
+                        this.item = this.outerBuffer.current();
+                        this.g = this.lookup.fetchGrouping(this.outerBuffer.currentKey());
+                    }
                     if (this.g == null) {
                         this.state = 3;
                         break;
@@ -186,7 +260,7 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
                     this.state = 4;
                     break;
                 case 3:
-                    if (!this.outerEnumerator.moveNext()) {
+                    if (!(this.outerBuffer == null ? this.outerEnumerator.moveNext() : this.outerBuffer.moveNext())) {
                         this.close();
                         return false;
                     }
@@ -211,12 +285,18 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
         if (this.outerEnumerator != null) {
             this.outerEnumerator.close();
             this.outerEnumerator = null;
-            this.lookup = null;
-            this.item = null;
-            this.g = null;
         }
+        this.outerBuffer = null;
+        this.lookup = null;
+        this.item = null;
+        this.g = null;
         super.close();
     }
+
+    @SuppressWarnings("unused")
+    private String buildSide() {
+        return this.buildSide == null ? "pending" : this.buildSide;
+    }
 }
 
 
@@ -637,3 +717,462 @@ final class CrossJoinIterator<TOuter, TInner, TResult> extends Iterator<TResult>
         return count;
     }
 }
+
+
+// Grace hash join: when the inner side does not fit in maxElementsInMemory elements, both sides are hash partitioned
+// into temporary files through their codecs and the partition pairs are joined in memory one at a time. Partitions
+// whose inner side is still too big are split again on other hash bits. Results come out partition by partition.
+final class SpillingJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    private static final int FAN_OUT_BITS = 5;
+    private static final int FAN_OUT = 1 << FAN_OUT_BITS;
+    private static final int MAX_LEVEL = 32 / FAN_OUT_BITS;
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final boolean keepUnmatchedOuter;
+    private final TInner defaultInner;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final IEqualityComparer<TKey> comparer;
+    private final IElementCodec<TOuter> outerCodec;
+    private final IElementCodec<TInner> innerCodec;
+    private final int maxElementsInMemory;
+    private Deque<SpillPartition> partitions;
+    private SpillPartition partition;
+    private IEnumerator<TOuter> outerEnumerator;
+    private Lookup<TKey, TInner> lookup;
+    private TOuter item;
+    private Grouping<TKey, TInner> g;
+    private int index;
+
+    SpillingJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, boolean keepUnmatchedOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer, IElementCodec<TOuter> outerCodec, IElementCodec<TInner> innerCodec, int maxElementsInMemory) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.keepUnmatchedOuter = keepUnmatchedOuter;
+        this.defaultInner = defaultInner;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+        this.outerCodec = outerCodec;
+        this.innerCodec = innerCodec;
+        this.maxElementsInMemory = maxElementsInMemory;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new SpillingJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.keepUnmatchedOuter, this.defaultInner, this.resultSelector, this.comparer, this.outerCodec, this.innerCodec, this.maxElementsInMemory);
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.build();
+                    this.state = this.partitions == null ? 3 : 2;
+                    break;
+                case 2:
+                    if (this.openNextPartition()) {
+                        this.state = 3;
+                        break;
+                    }
+                    this.close();
+                    return false;
+                case 3:
+                    if (!this.outerEnumerator.moveNext()) {
+                        this.closePartition();
+                        if (this.partitions == null) {
+                            this.close();
+                            return false;
+                        }
+                        this.state = 2;
+                        break;
+                    }
+                    this.item = this.outerEnumerator.current();
+                    this.g = this.lookup == null ? null : this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
+                    if (this.g == null) {
+                        if (this.keepUnmatchedOuter) {
+                            this.current = this.resultSelector.apply(this.item, this.defaultInner);
+                            return true;
+                        }
+                        break;
+                    }
+                    this.index = -1;
+                    this.state = 4;
+                case 4:
+                    this.index++;
+                    if (this.index < this.g._getCount()) {
+                        this.current = this.resultSelector.apply(this.item, this.g.get(this.index));
+                        return true;
+                    }
+                    this.state = 3;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    // Reads the inner side into memory while it fits the budget, otherwise partitions both sides to disk.
+    private void build() {
+        Object[] buffer = new Object[Math.min(this.maxElementsInMemory, 1024)];
+        int count = 0;
+        try (IEnumerator<TInner> e = this.inner.enumerator()) {
+            while (e.moveNext()) {
+                if (count == buffer.length) {
+                    if (count < this.maxElementsInMemory) {
+                        buffer = ArrayUtils.resize(buffer, (int) Math.min((long) count << 1, this.maxElementsInMemory));
+                    } else {
+                        SpillWriter<TInner> innerWriter = new SpillWriter<>(this.innerCodec, FAN_OUT);
+                        try {
+                            for (int i = 0; i < count; i++) {
+                                //noinspection unchecked
+                                TInner element = (TInner) buffer[i];
+                                this.writeInner(innerWriter, element, 0);
+                            }
+                            buffer = null;
+                            do {
+                                this.writeInner(innerWriter, e.current(), 0);
+                            } while (e.moveNext());
+                            innerWriter.close();
+                            this.spillOuter(innerWriter);
+                        } catch (Throwable ex) {
+                            innerWriter.delete();
+                            throw ex;
+                        }
+                        return;
+                    }
+                }
+                buffer[count++] = e.current();
+            }
+        }
+        if (count > 0)
+            this.lookup = Lookup.createForJoin(new Array<>(ArrayUtils.resize(buffer, count)), this.innerKeySelector, this.comparer);
+        this.outerEnumerator = this.keepUnmatchedOuter || (this.lookup != null && this.lookup.getCount() > 0)
+                ? this.outer.enumerator()
+                : EmptyPartition.<TOuter>instance().enumerator();
+    }
+
+    private void spillOuter(SpillWriter<TInner> innerWriter) {
+        SpillWriter<TOuter> outerWriter = new SpillWriter<>(this.outerCodec, FAN_OUT);
+        try (IEnumerator<TOuter> e = this.outer.enumerator()) {
+            while (e.moveNext()) {
+                TOuter element = e.current();
+                TKey key = this.outerKeySelector.apply(element);
+                // an outer element can only match if its inner partition is not empty
+                int bucket = this.bucket(key, 0);
+                if (this.keepUnmatchedOuter || (key != null && innerWriter.counts[bucket] > 0))
+                    outerWriter.write(bucket, element);
+            }
+            outerWriter.close();
+        } catch (Throwable ex) {
+            outerWriter.delete();
+            throw ex;
+        }
+        this.partitions = new ArrayDeque<>();
+        for (int i = 0; i < FAN_OUT; i++)
+            this.addPartition(innerWriter, outerWriter, i, 0);
+    }
+
+    private void writeInner(SpillWriter<TInner> writer, TInner element, int level) {
+        TKey key = this.innerKeySelector.apply(element);
+        if (key != null)
+            writer.write(this.bucket(key, level), element);
+    }
+
+    private int bucket(TKey key, int level) {
+        if (key == null)
+            return 0;
+        // the multiply mixes every hash bit into the high bits, each level consumes the next FAN_OUT_BITS from the top
+        int h = this.comparer.hashCode(key) * 0x9E3779B9;
+        return (h >>> (32 - (level + 1) * FAN_OUT_BITS)) & (FAN_OUT - 1);
+    }
+
+    private void addPartition(SpillWriter<TInner> innerWriter, SpillWriter<TOuter> outerWriter, int i, int level) {
+        SpillPartition partition = new SpillPartition(innerWriter.files[i], innerWriter.counts[i], outerWriter.files[i], outerWriter.counts[i], level);
+        if (partition.outerCount == 0 || (partition.innerCount == 0 && !this.keepUnmatchedOuter))
+            partition.delete();
+        else
+            this.partitions.addLast(partition);
+    }
+
+    private boolean openNextPartition() {
+        while (!this.partitions.isEmpty()) {
+            SpillPartition partition = this.partitions.removeFirst();
+            this.partition = partition;
+            if (partition.innerCount > this.maxElementsInMemory && partition.level + 1 < MAX_LEVEL) {
+                this.split(partition);
+                this.partition = null;
+                continue;
+            }
+            this.lookup = partition.innerCount == 0 ? null : Lookup.createForJoin(new SpillFileEnumerable<>(partition.innerFile, partition.innerCount, this.innerCodec), this.innerKeySelector, this.comparer);
+            this.outerEnumerator = new SpillFileEnumerable<>(partition.outerFile, partition.outerCount, this.outerCodec).enumerator();
+            return true;
+        }
+        return false;
+    }
+
+    // Splits a partition whose inner side is over budget into FAN_OUT partitions on the next hash bits.
+    private void split(SpillPartition partition) {
+        int level = partition.level + 1;
+        SpillWriter<TInner> innerWriter = new SpillWriter<>(this.innerCodec, FAN_OUT);
+        SpillWriter<TOuter> outerWriter = new SpillWriter<>(this.outerCodec, FAN_OUT);
+        try {
+            try (IEnumerator<TInner> e = new SpillFileEnumerable<>(partition.innerFile, partition.innerCount, this.innerCodec).enumerator()) {
+                while (e.moveNext())
+                    this.writeInner(innerWriter, e.current(), level);
+            }
+            try (IEnumerator<TOuter> e = new SpillFileEnumerable<>(partition.outerFile, partition.outerCount, this.outerCodec).enumerator()) {
+                while (e.moveNext()) {
+                    TOuter element = e.current();
+                    outerWriter.write(this.bucket(this.outerKeySelector.apply(element), level), element);
+                }
+            }
+            innerWriter.close();
+            outerWriter.close();
+        } catch (Throwable ex) {
+            innerWriter.delete();
+            outerWriter.delete();
+            throw ex;
+        } finally {
+            partition.delete();
+        }
+        for (int i = FAN_OUT - 1; i >= 0; i--) {
+            // a child that got every inner element holds one hash code, splitting it again can not help
+            int childLevel = innerWriter.counts[i] == partition.innerCount ? MAX_LEVEL : level;
+            SpillPartition child = new SpillPartition(innerWriter.files[i], innerWriter.counts[i], outerWriter.files[i], outerWriter.counts[i], childLevel);
+            if (child.outerCount == 0 || (child.innerCount == 0 && !this.keepUnmatchedOuter))
+                child.delete();
+            else
+                this.partitions.addFirst(child);
+        }
+    }
+
+    private void closePartition() {
+        if (this.outerEnumerator != null) {
+            this.outerEnumerator.close();
+            this.outerEnumerator = null;
+        }
+        if (this.partition != null) {
+            this.partition.delete();
+            this.partition = null;
+        }
+        this.lookup = null;
+        this.item = null;
+        this.g = null;
+    }
+
+    @Override
+    public void close() {
+        this.closePartition();
+        if (this.partitions != null) {
+            for (SpillPartition partition : this.partitions)
+                partition.delete();
+            this.partitions = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SpillPartition {
+    final File innerFile;
+    final int innerCount;
+    final File outerFile;
+    final int outerCount;
+    final int level;
+
+    SpillPartition(File innerFile, int innerCount, File outerFile, int outerCount, int level) {
+        this.innerFile = innerFile;
+        this.innerCount = innerCount;
+        this.outerFile = outerFile;
+        this.outerCount = outerCount;
+        this.level = level;
+    }
+
+    void delete() {
+        if (this.innerFile != null)
+            //noinspection ResultOfMethodCallIgnored
+            this.innerFile.delete();
+        if (this.outerFile != null)
+            //noinspection ResultOfMethodCallIgnored
+            this.outerFile.delete();
+    }
+}
+
+
+// Writes elements into one temporary file per bucket, files are created on first write.
+final class SpillWriter<TElement> {
+    final File[] files;
+    final int[] counts;
+    private final DataOutputStream[] outputs;
+    private final IElementCodec<TElement> codec;
+
+    SpillWriter(IElementCodec<TElement> codec, int buckets) {
+        this.files = new File[buckets];
+        this.counts = new int[buckets];
+        this.outputs = new DataOutputStream[buckets];
+        this.codec = codec;
+    }
+
+    void write(int bucket, TElement element) {
+        try {
+            DataOutputStream output = this.outputs[bucket];
+            if (output == null) {
+                File file = File.createTempFile("linq-join-", ".part");
+                this.files[bucket] = file;
+                this.outputs[bucket] = output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            }
+            this.codec.encode(output, element);
+            this.counts[bucket]++;
+        } catch (IOException e) {
+            ThrowHelper.throwRuntimeException(e);
+        }
+    }
+
+    void close() {
+        for (int i = 0; i < this.outputs.length; i++) {
+            DataOutputStream output = this.outputs[i];
+            if (output == null)
+                continue;
+            this.outputs[i] = null;
+            try {
+                output.close();
+            } catch (IOException e) {
+                ThrowHelper.throwRuntimeException(e);
+            }
+        }
+    }
+
+    // Closes the open files without reporting errors and deletes them, used when spilling fails part way.
+    void delete() {
+        for (int i = 0; i < this.files.length; i++) {
+            DataOutputStream output = this.outputs[i];
+            if (output != null) {
+                this.outputs[i] = null;
+                try {
+                    output.close();
+                } catch (IOException ignored) {
+                }
+            }
+            File file = this.files[i];
+            if (file != null) {
+                this.files[i] = null;
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+    }
+}
+
+
+// Reads count elements back from a spill file.
+final class SpillFileEnumerable<TElement> implements IEnumerable<TElement> {
+    private final File file;
+    private final int count;
+    private final IElementCodec<TElement> codec;
+
+    SpillFileEnumerable(File file, int count, IElementCodec<TElement> codec) {
+        this.file = file;
+        this.count = count;
+        this.codec = codec;
+    }
+
+    @Override
+    public IEnumerator<TElement> enumerator() {
+        return new SpillFileEnumerator();
+    }
+
+    private final class SpillFileEnumerator extends AbstractEnumerator<TElement> {
+        private DataInputStream input;
+        private int remaining;
+
+        @Override
+        public boolean moveNext() {
+            try {
+                switch (this.state) {
+                    case 0:
+                        if (SpillFileEnumerable.this.count == 0) {
+                            this.close();
+                            return false;
+                        }
+                        this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(SpillFileEnumerable.this.file)));
+                        this.remaining = SpillFileEnumerable.this.count;
+                        this.state = 1;
+                    case 1:
+                        if (this.remaining > 0) {
+                            this.remaining--;
+                            this.current = SpillFileEnumerable.this.codec.decode(this.input);
+                            return true;
+                        }
+                        this.close();
+                        return false;
+                    default:
+                        return false;
+                }
+            } catch (IOException e) {
+                this.close();
+                ThrowHelper.throwRuntimeException(e);
+                return false;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (this.input != null) {
+                try {
+                    this.input.close();
+                } catch (IOException ignored) {
+                }
+                this.input = null;
+            }
+            super.close();
+        }
+    }
+}
+
+
+// Buffers a small outer side together with its keys, so an equi-join can hash the outer keys and keep only the matching inner elements.
+final class JoinOuterBuffer<TOuter, TKey> {
+    // The inner side has to be this many times larger than the outer side before the outer keys are hashed instead.
+    private static final int BUILD_RATIO = 4;
+    private final Object[] items;
+    private final Object[] keys;
+    private int index = -1;
+
+    JoinOuterBuffer(IEnumerable<TOuter> outer, Func1<TOuter, TKey> keySelector) {
+        this.items = ToCollection.toArray(outer);
+        this.keys = new Object[this.items.length];
+        for (int i = 0; i < this.items.length; i++)
+            //noinspection unchecked
+            this.keys[i] = keySelector.apply((TOuter) this.items[i]);
+    }
+
+    // Whether both counts are cheap and the inner side is much larger than the outer side.
+    static boolean preferred(IEnumerable<?> outer, IEnumerable<?> inner) {
+        out<Integer> outerCount = out.init();
+        out<Integer> innerCount = out.init();
+        return EnumerableHelpers.tryGetCount(outer, outerCount)
+                && EnumerableHelpers.tryGetCount(inner, innerCount)
+                && innerCount.value / BUILD_RATIO > outerCount.value;
+    }
+
+    Object[] keys() {
+        return this.keys;
+    }
+
+    boolean moveNext() {
+        return ++this.index < this.items.length;
+    }
+
+    TOuter current() {
+        //noinspection unchecked
+        return (TOuter) this.items[this.index];
+    }
+
+    TKey currentKey() {
+        //noinspection unchecked
+        return (TKey) this.keys[this.index];
+    }
+}
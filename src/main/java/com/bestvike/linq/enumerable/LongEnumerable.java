@@ -0,0 +1,667 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.LongFunc1;
+import com.bestvike.function.LongPredicate1;
+import com.bestvike.function.LongToLongFunc1;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.ILongEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class LongEnumerable {
+    private static final long[] EMPTY = new long[0];
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private LongEnumerable() {
+    }
+
+    public static ILongEnumerable of(long[] source) {
+        return source == null ? new LongArrayIterator(EMPTY, 0, 0) : new LongArrayIterator(source, 0, source.length);
+    }
+
+    public static <TSource> ILongEnumerable selectToLong(IEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectToLongIterator<>(source, selector);
+    }
+
+    public static ILongEnumerable where(ILongEnumerable source, LongPredicate1 predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return new LongWhereIterator(source, predicate);
+    }
+
+    public static ILongEnumerable select(ILongEnumerable source, LongToLongFunc1 selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new LongSelectIterator(source, selector);
+    }
+
+    public static ILongEnumerable distinct(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongDistinctIterator(source);
+    }
+
+    public static ILongEnumerable orderBy(ILongEnumerable source, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongOrderedIterator(source, descending);
+    }
+
+    public static IDoubleEnumerable asDoubleEnumerable(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongToDoubleIterator(source);
+    }
+
+    public static IEnumerable<Long> boxed(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongBoxedIterator(source);
+    }
+
+    public static long sum(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long sum = 0;
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            for (int i = array.start; i < array.end; i++)
+                sum = Math.addExact(sum, array.source[i]);
+            return sum;
+        }
+
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum = Math.addExact(sum, e.current());
+        }
+        return sum;
+    }
+
+    public static long min(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long value;
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            if (array.start == array.end)
+                ThrowHelper.throwNoElementsException();
+            value = array.source[array.start];
+            for (int i = array.start + 1; i < array.end; i++) {
+                long x = array.source[i];
+                if (x < value)
+                    value = x;
+            }
+            return value;
+        }
+
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (e.moveNext()) {
+                long x = e.current();
+                if (x < value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static long max(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long value;
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            if (array.start == array.end)
+                ThrowHelper.throwNoElementsException();
+            value = array.source[array.start];
+            for (int i = array.start + 1; i < array.end; i++) {
+                long x = array.source[i];
+                if (x > value)
+                    value = x;
+            }
+            return value;
+        }
+
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (e.moveNext()) {
+                long x = e.current();
+                if (x > value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static double average(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long sum = 0;
+        long count = 0;
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            for (int i = array.start; i < array.end; i++)
+                sum = Math.addExact(sum, array.source[i]);
+            count = array.end - array.start;
+        } else {
+            try (ILongEnumerator e = source.enumerator()) {
+                while (e.moveNext()) {
+                    sum = Math.addExact(sum, e.current());
+                    count++;
+                }
+            }
+        }
+        if (count == 0)
+            ThrowHelper.throwNoElementsException();
+        return (double) sum / count;
+    }
+
+    public static double variance(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        // Welford's online algorithm, avoids the cancellation of sum of squares minus square of sum
+        long count = 0;
+        double mean = 0;
+        double m2 = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                double x = e.current();
+                count++;
+                double delta = x - mean;
+                mean += delta / count;
+                m2 += delta * (x - mean);
+            }
+        }
+        if (count == 0)
+            ThrowHelper.throwNoElementsException();
+        return m2 / count;
+    }
+
+    public static int count(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            return array.end - array.start;
+        }
+
+        int count = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static long[] toLongArray(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            return Arrays.copyOfRange(array.source, array.start, array.end);
+        }
+
+        long[] array = EMPTY;
+        int count = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == array.length)
+                    array = Arrays.copyOf(array, count == 0 ? DEFAULT_CAPACITY : Math.multiplyExact(count, 2));
+                array[count++] = e.current();
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+}
+
+
+final class LongArrayIterator extends AbstractLongIterator {
+    final long[] source;
+    final int start;
+    final int end;
+    private int index;
+
+    LongArrayIterator(long[] source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new LongArrayIterator(this.source, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.index = this.start;
+                this.state = 2;
+            case 2:
+                if (this.index < this.end) {
+                    this.current = this.source[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class SelectToLongIterator<TSource> extends AbstractLongIterator {
+    private final IEnumerable<TSource> source;
+    private final LongFunc1<TSource> selector;
+    private IEnumerator<TSource> enumerator;
+
+    SelectToLongIterator(IEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new SelectToLongIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongWhereIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private final LongPredicate1 predicate;
+    private ILongEnumerator enumerator;
+
+    LongWhereIterator(ILongEnumerable source, LongPredicate1 predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new LongWhereIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    long item = this.enumerator.current();
+                    if (this.predicate.apply(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongSelectIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private final LongToLongFunc1 selector;
+    private ILongEnumerator enumerator;
+
+    LongSelectIterator(ILongEnumerable source, LongToLongFunc1 selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new LongSelectIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongDistinctIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private ILongEnumerator enumerator;
+    private LongSet set;
+
+    LongDistinctIterator(ILongEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new LongDistinctIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new LongSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    long item = this.enumerator.current();
+                    if (this.set.add(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongOrderedIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private final boolean descending;
+    private long[] buffer;
+    private int index;
+
+    LongOrderedIterator(ILongEnumerable source, boolean descending) {
+        this.source = source;
+        this.descending = descending;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new LongOrderedIterator(this.source, this.descending);
+    }
+
+    long[] sortedArray() {
+        long[] array = LongEnumerable.toLongArray(this.source);
+        Arrays.sort(array);
+        if (this.descending) {
+            for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+                long temp = array[i];
+                array[i] = array[j];
+                array[j] = temp;
+            }
+        }
+        return array;
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.buffer = this.sortedArray();
+                this.index = 0;
+                this.state = 2;
+            case 2:
+                if (this.index < this.buffer.length) {
+                    this.current = this.buffer[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.buffer = null;
+        super.close();
+    }
+}
+
+
+final class LongToDoubleIterator extends AbstractDoubleIterator {
+    private final ILongEnumerable source;
+    private ILongEnumerator enumerator;
+
+    LongToDoubleIterator(ILongEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new LongToDoubleIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongBoxedIterator extends AbstractIterator<Long> {
+    private final ILongEnumerable source;
+    private ILongEnumerator enumerator;
+
+    LongBoxedIterator(ILongEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public AbstractIterator<Long> clone() {
+        return new LongBoxedIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+/**
+ * Open addressing set of long values, 0 is tracked apart because it marks an empty slot.
+ */
+final class LongSet {
+    private static final int DEFAULT_CAPACITY = 16;
+    private long[] slots;
+    private int count;
+    private boolean hasZero;
+
+    LongSet() {
+        this.slots = new long[DEFAULT_CAPACITY];
+    }
+
+    boolean add(long value) {
+        if (value == 0) {
+            if (this.hasZero)
+                return false;
+            this.hasZero = true;
+            return true;
+        }
+        int mask = this.slots.length - 1;
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            long slot = this.slots[i];
+            if (slot == 0) {
+                this.slots[i] = value;
+                if (++this.count << 1 > this.slots.length)
+                    this.resize();
+                return true;
+            }
+            if (slot == value)
+                return false;
+        }
+    }
+
+    private void resize() {
+        long[] oldSlots = this.slots;
+        long[] newSlots = new long[Math.multiplyExact(oldSlots.length, 2)];
+        int mask = newSlots.length - 1;
+        for (long value : oldSlots) {
+            if (value == 0)
+                continue;
+            int i = mix(value) & mask;
+            while (newSlots[i] != 0)
+                i = (i + 1) & mask;
+            newSlots[i] = value;
+        }
+        this.slots = newSlots;
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,194 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IMemoizedEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class Memoize {
+    private Memoize() {
+    }
+
+    public static <TSource> IMemoizedEnumerable<TSource> memoize(IEnumerable<TSource> source) {
+        return memoize(source, false);
+    }
+
+    public static <TSource> IMemoizedEnumerable<TSource> memoize(IEnumerable<TSource> source, boolean threadSafe) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IMemoizedEnumerable && (!threadSafe || ((IMemoizedEnumerable<TSource>) source).isThreadSafe()))
+            return (IMemoizedEnumerable<TSource>) source;
+        return new MemoizedEnumerable<>(source, threadSafe);
+    }
+}
+
+
+final class MemoizedEnumerable<TSource> implements IMemoizedEnumerable<TSource> {
+    private final IEnumerable<TSource> source;
+    private final boolean threadSafe;
+    private volatile MemoizedBuffer<TSource> buffer;
+
+    MemoizedEnumerable(IEnumerable<TSource> source, boolean threadSafe) {
+        this.source = source;
+        this.threadSafe = threadSafe;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return this.threadSafe;
+    }
+
+    // Gets the element at the specified index, pulling it from the source if it is not cached yet. Returns MemoizedBuffer.NONE past the end.
+    Object get(int index) {
+        MemoizedBuffer<TSource> buffer = this.buffer;
+        if (buffer == null) {
+            if (this.threadSafe) {
+                synchronized (this) {
+                    if ((buffer = this.buffer) == null)
+                        this.buffer = buffer = new MemoizedBuffer<>(this.source);
+                }
+            } else {
+                this.buffer = buffer = new MemoizedBuffer<>(this.source);
+            }
+        }
+        return buffer.get(index, this.threadSafe);
+    }
+
+    @Override
+    public IEnumerator<TSource> enumerator() {
+        return new MemoizedEnumerator<>(this);
+    }
+
+    @Override
+    public void close() {
+        MemoizedBuffer<TSource> buffer;
+        if (this.threadSafe) {
+            synchronized (this) {
+                buffer = this.buffer;
+                this.buffer = null;
+            }
+        } else {
+            buffer = this.buffer;
+            this.buffer = null;
+        }
+        if (buffer != null)
+            buffer.close(this.threadSafe);
+    }
+}
+
+
+// Elements are appended to fixed size chunks, so growing the cache never copies them.
+final class MemoizedBuffer<TSource> {
+    static final Object NONE = new Object();
+    private static final int CHUNK_SHIFT = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private final IEnumerable<TSource> source;
+    private IEnumerator<TSource> enumerator;
+    private volatile Object[][] chunks = new Object[4][];// Replaced before count is raised, read after count so it holds every published chunk.
+    private volatile int count;// Written after the element it publishes, readers that see it see the element.
+    private boolean completed;
+    private RuntimeException error;// Rethrown to every enumerator that reaches the failed position.
+
+    MemoizedBuffer(IEnumerable<TSource> source) {
+        this.source = source;
+    }
+
+    Object get(int index, boolean threadSafe) {
+        if (index < this.count) {
+            Object[][] chunks = this.chunks;
+            return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+        if (!threadSafe)
+            return this.fill(index);
+        synchronized (this) {
+            return this.fill(index);
+        }
+    }
+
+    private Object fill(int index) {
+        while (index >= this.count) {
+            if (this.error != null)
+                throw this.error;
+            if (this.completed)
+                return NONE;
+            if (this.enumerator == null)
+                this.enumerator = this.source.enumerator();
+            try {
+                if (this.enumerator.moveNext()) {
+                    this.append(this.enumerator.current());
+                    continue;
+                }
+            } catch (RuntimeException e) {
+                this.error = e;
+            }
+            this.completed = true;
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        return this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    private void append(TSource item) {
+        int count = this.count;
+        int chunk = count >>> CHUNK_SHIFT;
+        Object[][] chunks = this.chunks;
+        if (chunk == chunks.length) {
+            Object[][] newChunks = new Object[Math.multiplyExact(chunk, 2)][];
+            System.arraycopy(chunks, 0, newChunks, 0, chunk);
+            this.chunks = chunks = newChunks;
+        }
+        if (chunks[chunk] == null)
+            chunks[chunk] = new Object[CHUNK_SIZE];
+        chunks[chunk][count & CHUNK_MASK] = item;
+        this.count = count + 1;
+    }
+
+    void close(boolean threadSafe) {
+        if (!threadSafe) {
+            this.closeCore();
+            return;
+        }
+        synchronized (this) {
+            this.closeCore();
+        }
+    }
+
+    private void closeCore() {
+        this.completed = true;
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+    }
+}
+
+
+final class MemoizedEnumerator<TSource> extends AbstractEnumerator<TSource> {
+    private final MemoizedEnumerable<TSource> owner;
+    private int index;
+
+    MemoizedEnumerator(MemoizedEnumerable<TSource> owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public boolean moveNext() {
+        if (this.state == -1)
+            return false;
+        Object item = this.owner.get(this.index);
+        if (item == MemoizedBuffer.NONE) {
+            this.close();
+            return false;
+        }
+        this.index++;
+        //noinspection unchecked
+        this.current = (TSource) item;
+        return true;
+    }
+}
@@ -0,0 +1,261 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Comparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Joins two sequences that are both sorted ascending by their keys under the same comparer.
+ * <p>
+ * Both sides are streamed in lockstep, only a run of inner elements sharing one key is buffered. Null keys never match, as in {@link Join}.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class MergeJoin {
+    private MergeJoin() {
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, false, null, false, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return leftMergeJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        return leftMergeJoin(outer, inner, outerKeySelector, innerKeySelector, defaultInner, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return leftMergeJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, false, null, true, defaultInner, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> rightMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return rightMergeJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> rightMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, Func2<TOuter, TInner, TResult> resultSelector) {
+        return rightMergeJoin(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> rightMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return rightMergeJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> rightMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, true, defaultOuter, false, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> fullMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return fullMergeJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> fullMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        return fullMergeJoin(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, defaultInner, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> fullMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return fullMergeJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> fullMergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, true, defaultOuter, true, defaultInner, resultSelector, comparer);
+    }
+
+    private static void checkArguments(IEnumerable<?> outer, IEnumerable<?> inner, Func1<?, ?> outerKeySelector, Func1<?, ?> innerKeySelector, Func2<?, ?, ?> resultSelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+    }
+}
+
+
+final class MergeJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final boolean keepUnmatchedInner;
+    private final TOuter defaultOuter;
+    private final boolean keepUnmatchedOuter;
+    private final TInner defaultInner;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final Comparator<TKey> comparer;
+    private IEnumerator<TOuter> outerEnumerator;
+    private IEnumerator<TInner> innerEnumerator;
+    private boolean hasOuter;
+    private TOuter outerItem;
+    private TKey outerKey;
+    private boolean hasInner;
+    private TInner innerItem;
+    private TKey innerKey;
+    // Inner elements sharing runKey, every outer element with that key is paired with all of them.
+    private List<TInner> run;
+    private TKey runKey;
+    private int index;
+
+    MergeJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, boolean keepUnmatchedInner, TOuter defaultOuter, boolean keepUnmatchedOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.keepUnmatchedInner = keepUnmatchedInner;
+        this.defaultOuter = defaultOuter;
+        this.keepUnmatchedOuter = keepUnmatchedOuter;
+        this.defaultInner = defaultInner;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer == null ? Comparer.Default() : comparer;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new MergeJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.keepUnmatchedInner, this.defaultOuter, this.keepUnmatchedOuter, this.defaultInner, this.resultSelector, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.outerEnumerator = this.outer.enumerator();
+                    this.innerEnumerator = this.inner.enumerator();
+                    this.run = new ArrayList<>();
+                    this.moveNextOuter();
+                    this.moveNextInner();
+                    this.state = 2;
+                case 2:
+                    if (!this.hasOuter) {
+                        if (this.hasInner && this.keepUnmatchedInner) {
+                            this.current = this.resultSelector.apply(this.defaultOuter, this.innerItem);
+                            this.moveNextInner();
+                            return true;
+                        }
+                        this.close();
+                        return false;
+                    }
+                    if (!this.hasInner) {
+                        if (this.keepUnmatchedOuter) {
+                            this.current = this.resultSelector.apply(this.outerItem, this.defaultInner);
+                            this.moveNextOuter();
+                            return true;
+                        }
+                        this.close();
+                        return false;
+                    }
+                    int c = this.outerKey == null ? -1 : this.innerKey == null ? 1 : this.comparer.compare(this.outerKey, this.innerKey);
+                    if (c < 0) {
+                        TOuter item = this.outerItem;
+                        this.moveNextOuter();
+                        if (this.keepUnmatchedOuter) {
+                            this.current = this.resultSelector.apply(item, this.defaultInner);
+                            return true;
+                        }
+                        break;
+                    }
+                    if (c > 0) {
+                        TInner item = this.innerItem;
+                        this.moveNextInner();
+                        if (this.keepUnmatchedInner) {
+                            this.current = this.resultSelector.apply(this.defaultOuter, item);
+                            return true;
+                        }
+                        break;
+                    }
+                    this.runKey = this.innerKey;
+                    do {
+                        this.run.add(this.innerItem);
+                        this.moveNextInner();
+                    } while (this.hasInner && this.innerKey != null && this.comparer.compare(this.innerKey, this.runKey) == 0);
+                    this.index = 0;
+                    this.state = 3;
+                case 3:
+                    if (this.index < this.run.size()) {
+                        this.current = this.resultSelector.apply(this.outerItem, this.run.get(this.index++));
+                        return true;
+                    }
+                    this.moveNextOuter();
+                    if (this.hasOuter && this.outerKey != null && this.comparer.compare(this.outerKey, this.runKey) == 0) {
+                        this.index = 0;
+                        break;
+                    }
+                    this.run.clear();
+                    this.runKey = null;
+                    this.state = 2;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    private void moveNextOuter() {
+        if (this.hasOuter = this.outerEnumerator.moveNext()) {
+            this.outerItem = this.outerEnumerator.current();
+            this.outerKey = this.outerKeySelector.apply(this.outerItem);
+        } else {
+            this.outerItem = null;
+            this.outerKey = null;
+        }
+    }
+
+    private void moveNextInner() {
+        if (this.hasInner = this.innerEnumerator.moveNext()) {
+            this.innerItem = this.innerEnumerator.current();
+            this.innerKey = this.innerKeySelector.apply(this.innerItem);
+        } else {
+            this.innerItem = null;
+            this.innerKey = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.outerEnumerator != null) {
+            this.outerEnumerator.close();
+            this.outerEnumerator = null;
+        }
+        if (this.innerEnumerator != null) {
+            this.innerEnumerator.close();
+            this.innerEnumerator = null;
+        }
+        this.outerItem = null;
+        this.outerKey = null;
+        this.innerItem = null;
+        this.innerKey = null;
+        this.run = null;
+        this.runKey = null;
+        super.close();
+    }
+}
@@ -1,6 +1,9 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IOrderedEnumerable;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -15,6 +18,30 @@ public final class OrderBy {
     private OrderBy() {
     }
 
+    public static <TSource> IOrderedEnumerable<TSource> orderByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new IntOrderedEnumerable<>(source, keySelector, false, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByIntDescending(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new IntOrderedEnumerable<>(source, keySelector, true, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, keySelector, false, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByLongDescending(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, keySelector, true, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDouble(IEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return new DoubleOrderedEnumerable<>(source, keySelector, false, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDoubleDescending(IEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return new DoubleOrderedEnumerable<>(source, keySelector, true, null);
+    }
+
     public static <TSource, TKey> IOrderedEnumerable<TSource> orderBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
         return new OrderedEnumerable<>(source, keySelector, null, false, null);
     }
@@ -31,6 +58,48 @@ public final class OrderBy {
         return new OrderedEnumerable<>(source, keySelector, comparer, true, null);
     }
 
+    public static <TSource> IOrderedEnumerable<TSource> thenByInt(IOrderedEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return source.createOrderedEnumerableInt(keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByIntDescending(IOrderedEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return source.createOrderedEnumerableInt(keySelector, true);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByLong(IOrderedEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return source.createOrderedEnumerableLong(keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByLongDescending(IOrderedEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return source.createOrderedEnumerableLong(keySelector, true);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByDouble(IOrderedEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return source.createOrderedEnumerableDouble(keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByDoubleDescending(IOrderedEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return source.createOrderedEnumerableDouble(keySelector, true);
+    }
+
     public static <TSource, TKey> IOrderedEnumerable<TSource> thenBy(IOrderedEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
@@ -0,0 +1,593 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ILookup;
+import com.bestvike.linq.IParallelEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class ParallelEnumerable {
+    private ParallelEnumerable() {
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> asParallel(IEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IParallelEnumerable)
+            return (IParallelEnumerable<TSource>) source;
+        return new ParallelQuery<>(source, chunk -> chunk, false, 0);
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> where(IParallelEnumerable<TSource> source, Predicate1<TSource> predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return query(source).compose(chunk -> Where.where(chunk, predicate));
+    }
+
+    public static <TSource, TResult> IParallelEnumerable<TResult> select(IParallelEnumerable<TSource> source, Func1<TSource, TResult> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return query(source).compose(chunk -> Select.select(chunk, selector));
+    }
+
+    public static <TSource, TResult> IParallelEnumerable<TResult> selectMany(IParallelEnumerable<TSource> source, Func1<TSource, IEnumerable<TResult>> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return query(source).compose(chunk -> SelectMany.selectMany(chunk, selector));
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> distinct(IParallelEnumerable<TSource> source, IEqualityComparer<TSource> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        ParallelQuery<?, TSource> query = query(source);
+        return query.barrier(() -> {
+            // every chunk drops its own duplicates in parallel, the merge keeps the first occurrence across chunks
+            List<List<TSource>> partials = query.mapChunks(chunk -> Distinct.distinct(chunk, comparer).toList());
+            Set<TSource> set = new Set<>(comparer);
+            List<TSource> list = new ArrayList<>();
+            for (List<TSource> partial : partials) {
+                for (TSource item : partial) {
+                    if (set.add(item))
+                        list.add(item);
+                }
+            }
+            return list.toArray();
+        });
+    }
+
+    public static <TSource, TKey> IParallelEnumerable<IGrouping<TKey, TSource>> groupBy(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        ParallelQuery<?, TSource> query = query(source);
+        return query.barrier(() -> lookup(query, chunk -> Lookup.create(chunk, keySelector, comparer), comparer)._toArray());
+    }
+
+    public static <TSource, TKey, TElement> IParallelEnumerable<IGrouping<TKey, TElement>> groupBy(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        ParallelQuery<?, TSource> query = query(source);
+        return query.barrier(() -> lookup(query, chunk -> Lookup.create(chunk, keySelector, elementSelector, comparer), comparer)._toArray());
+    }
+
+    public static <TSource, TKey> ILookup<TKey, TSource> toLookup(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return lookup(query(source), chunk -> Lookup.create(chunk, keySelector, comparer), comparer);
+    }
+
+    public static <TSource, TKey, TElement> ILookup<TKey, TElement> toLookup(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return lookup(query(source), chunk -> Lookup.create(chunk, keySelector, elementSelector, comparer), comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IParallelEnumerable<TResult> join(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        checkJoinArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+
+        ParallelQuery<?, TOuter> query = query(outer);
+        return query.barrier(() -> {
+            Lookup<TKey, TInner> lookup = buildForJoin(sibling(query, inner), innerKeySelector, comparer, false);
+            if (lookup.getCount() == 0)
+                return ArrayUtils.empty();
+            return concat(probe(query, outerKeySelector, lookup, false, null, resultSelector));
+        });
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IParallelEnumerable<TResult> leftJoin(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        checkJoinArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+
+        ParallelQuery<?, TOuter> query = query(outer);
+        return query.barrier(() -> {
+            Lookup<TKey, TInner> lookup = buildForJoin(sibling(query, inner), innerKeySelector, comparer, false);
+            return concat(probe(query, outerKeySelector, lookup, true, defaultInner, resultSelector));
+        });
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IParallelEnumerable<TResult> rightJoin(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        checkJoinArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+
+        ParallelQuery<?, TOuter> query = query(outer);
+        return query.barrier(() -> {
+            // the outer side is built and the inner side probed, results follow the inner order
+            Lookup<TKey, TOuter> lookup = buildForJoin(query, outerKeySelector, comparer, false);
+            return concat(probe(sibling(query, inner), innerKeySelector, lookup, true, defaultOuter, (TInner item, TOuter match) -> resultSelector.apply(match, item)));
+        });
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IParallelEnumerable<TResult> fullJoin(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        checkJoinArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+
+        ParallelQuery<?, TOuter> query = query(outer);
+        return query.barrier(() -> {
+            Lookup<TKey, TInner> lookup = buildForJoin(sibling(query, inner), innerKeySelector, comparer, true);
+            List<List<TResult>> partials = probe(query, outerKeySelector, lookup, true, defaultInner, resultSelector);
+            // probe tasks have completed, so every grouping they fetched is visible as fetched here
+            List<TResult> unmatched = new ArrayList<>();
+            try (IEnumerator<Grouping<TKey, TInner>> e = lookup.unfetchedEnumerator()) {
+                while (e.moveNext()) {
+                    for (TInner item : e.current())
+                        unmatched.add(resultSelector.apply(defaultOuter, item));
+                }
+            }
+            partials.add(unmatched);
+            return concat(partials);
+        });
+    }
+
+    public static <TSource> int sumInt(IParallelEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        int sum = 0;
+        for (int partial : query(source).mapChunks(chunk -> Sum.sumInt(chunk, selector)))
+            sum = Math.addExact(sum, partial);
+        return sum;
+    }
+
+    public static <TSource> long sumLong(IParallelEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        long sum = 0;
+        for (long partial : query(source).mapChunks(chunk -> Sum.sumLong(chunk, selector)))
+            sum = Math.addExact(sum, partial);
+        return sum;
+    }
+
+    public static <TSource> double sumDouble(IParallelEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        double sum = 0;
+        for (double partial : query(source).mapChunks(chunk -> Sum.sumDouble(chunk, selector)))
+            sum += partial;
+        return sum;
+    }
+
+    public static <TSource, TAccumulate> TAccumulate aggregate(IParallelEnumerable<TSource> source, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func, Func2<TAccumulate, TAccumulate, TAccumulate> combiner) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (seedFactory == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.seedFactory);
+        if (func == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
+        if (combiner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.combiner);
+
+        // Every chunk starts from its own seed, so the partials are folded from the first one and the seed is counted once per chunk only.
+        List<TAccumulate> partials = query(source).mapChunks(chunk -> Aggregate.aggregate(chunk, seedFactory.apply(), func));
+        TAccumulate result = partials.get(0);
+        for (int i = 1; i < partials.size(); i++)
+            result = combiner.apply(result, partials.get(i));
+        return result;
+    }
+
+    private static void checkJoinArguments(IEnumerable<?> outer, IEnumerable<?> inner, Func1<?, ?> outerKeySelector, Func1<?, ?> innerKeySelector, Func2<?, ?, ?> resultSelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+    }
+
+    // Build phase, null keys are dropped unless a full join needs them back as unmatched rows.
+    private static <TElement, TKey> Lookup<TKey, TElement> buildForJoin(ParallelQuery<?, TElement> side, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer, boolean keepNullKeys) {
+        return lookup(side, chunk -> keepNullKeys ? Lookup.createForFullJoin(chunk, keySelector, comparer) : Lookup.createForJoin(chunk, keySelector, comparer), comparer);
+    }
+
+    // Probe phase, every chunk of the probe side looks its keys up in the shared read-only lookup.
+    private static <TProbe, TBuild, TKey, TResult> List<List<TResult>> probe(ParallelQuery<?, TProbe> side, Func1<TProbe, TKey> keySelector, Lookup<TKey, TBuild> lookup, boolean keepUnmatched, TBuild defaultBuild, Func2<TProbe, TBuild, TResult> resultSelector) {
+        return side.mapChunks(chunk -> {
+            List<TResult> list = new ArrayList<>();
+            try (IEnumerator<TProbe> e = chunk.enumerator()) {
+                while (e.moveNext()) {
+                    TProbe item = e.current();
+                    Grouping<TKey, TBuild> g = lookup.fetchGrouping(keySelector.apply(item));
+                    if (g == null) {
+                        if (keepUnmatched)
+                            list.add(resultSelector.apply(item, defaultBuild));
+                        continue;
+                    }
+                    for (int i = 0; i < g._getCount(); i++)
+                        list.add(resultSelector.apply(item, g.get(i)));
+                }
+            }
+            return list;
+        });
+    }
+
+    private static <TResult> Object[] concat(List<List<TResult>> partials) {
+        int count = 0;
+        for (List<TResult> partial : partials)
+            count = Math.addExact(count, partial.size());
+        Object[] array = count == 0 ? ArrayUtils.empty() : new Object[count];
+        int index = 0;
+        for (List<TResult> partial : partials) {
+            for (TResult item : partial)
+                array[index++] = item;
+        }
+        return array;
+    }
+
+    private static <TSource> ParallelQuery<TSource, TSource> sibling(ParallelQuery<?, ?> query, IEnumerable<TSource> source) {
+        return new ParallelQuery<>(source, chunk -> chunk, query.isOrdered(), query.getDegreeOfParallelism());
+    }
+
+    // Every chunk builds its own lookup, partials are merged in chunk order so an ordered query keeps first-seen group order.
+    private static <TSource, TKey, TElement> Lookup<TKey, TElement> lookup(ParallelQuery<?, TSource> query, Func1<IEnumerable<TSource>, Lookup<TKey, TElement>> partial, IEqualityComparer<TKey> comparer) {
+        return Lookup.merge(query.mapChunks(partial), comparer);
+    }
+
+    private static <TSource> ParallelQuery<?, TSource> query(IParallelEnumerable<TSource> source) {
+        if (source instanceof ParallelQuery)
+            return (ParallelQuery<?, TSource>) source;
+        return new ParallelQuery<>(source.asSequential(), chunk -> chunk, source.isOrdered(), source.getDegreeOfParallelism());
+    }
+}
+
+
+final class ParallelQuery<TSource, TResult> extends AbstractIterator<TResult> implements IParallelEnumerable<TResult>, IIListProvider<TResult> {
+    // Chunks per worker, more chunks than workers lets work stealing even out chunks of uneven cost.
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final IEnumerable<TSource> source;
+    private final Func1<IEnumerable<TSource>, IEnumerable<TResult>> pipeline;
+    private final boolean ordered;
+    private final int degreeOfParallelism;
+    private Object[] results;
+    private int index;
+
+    ParallelQuery(IEnumerable<TSource> source, Func1<IEnumerable<TSource>, IEnumerable<TResult>> pipeline, boolean ordered, int degreeOfParallelism) {
+        this.source = source;
+        this.pipeline = pipeline;
+        this.ordered = ordered;
+        this.degreeOfParallelism = degreeOfParallelism;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new ParallelQuery<>(this.source, this.pipeline, this.ordered, this.degreeOfParallelism);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.results = this._toArray();
+                this.index = 0;
+                this.state = 2;
+            case 2:
+                if (this.index < this.results.length) {
+                    //noinspection unchecked
+                    this.current = (TResult) this.results[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.results = null;
+        super.close();
+    }
+
+    @Override
+    public IParallelEnumerable<TResult> asOrdered() {
+        return this.ordered ? this : new ParallelQuery<>(this.source, this.pipeline, true, this.degreeOfParallelism);
+    }
+
+    @Override
+    public IParallelEnumerable<TResult> asUnordered() {
+        return this.ordered ? new ParallelQuery<>(this.source, this.pipeline, false, this.degreeOfParallelism) : this;
+    }
+
+    @Override
+    public boolean isOrdered() {
+        return this.ordered;
+    }
+
+    @Override
+    public IParallelEnumerable<TResult> withDegreeOfParallelism(int degreeOfParallelism) {
+        if (degreeOfParallelism < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.degreeOfParallelism);
+
+        return new ParallelQuery<>(this.source, this.pipeline, this.ordered, degreeOfParallelism);
+    }
+
+    @Override
+    public int getDegreeOfParallelism() {
+        return this.degreeOfParallelism;
+    }
+
+    @Override
+    public IEnumerable<TResult> asSequential() {
+        return new ParallelBarrierIterator<>(this::_toArray);
+    }
+
+    <TNext> ParallelQuery<TSource, TNext> compose(Func1<IEnumerable<TResult>, IEnumerable<TNext>> stage) {
+        Func1<IEnumerable<TSource>, IEnumerable<TResult>> pipeline = this.pipeline;
+        return new ParallelQuery<>(this.source, chunk -> stage.apply(pipeline.apply(chunk)), this.ordered, this.degreeOfParallelism);
+    }
+
+    <TNext> ParallelQuery<TNext, TNext> barrier(Func0<Object[]> results) {
+        return new ParallelQuery<>(new ParallelBarrierIterator<>(results), chunk -> chunk, this.ordered, this.degreeOfParallelism);
+    }
+
+    /**
+     * Runs the pipeline over every chunk of the source and maps each chunk to a partial result. Partials are in source order when the query is ordered, in completion order otherwise.
+     */
+    <TPartial> List<TPartial> mapChunks(Func1<IEnumerable<TResult>, TPartial> mapper) {
+        IEnumerable<TSource> items = EnumerableHelpers.isRandomAccess(this.source) ? this.source : new Array<>(ToCollection.toArray(this.source));
+        int count = Count.count(items);
+        int parallelism = this.degreeOfParallelism > 0 ? this.degreeOfParallelism : ForkJoinPool.getCommonPoolParallelism();
+        int chunkCount = (int) Math.min(count, (long) parallelism * CHUNKS_PER_WORKER);
+        List<TPartial> partials = new ArrayList<>(Math.max(chunkCount, 1));
+        if (chunkCount <= 1 || parallelism <= 1) {
+            partials.add(mapper.apply(this.pipeline.apply(items)));
+            return partials;
+        }
+
+        Object[] ordered = this.ordered ? new Object[chunkCount] : null;
+        ConcurrentLinkedQueue<TPartial> unordered = this.ordered ? null : new ConcurrentLinkedQueue<>();
+        AtomicInteger next = new AtomicInteger();
+        // At most parallelism workers run on the common pool and claim chunks from a shared counter, so a query never needs a pool of its own.
+        ForkJoinPool.commonPool().invoke(new ChunkTask(0, Math.min(parallelism, chunkCount), worker -> {
+            for (int chunk = next.getAndIncrement(); chunk < chunkCount; chunk = next.getAndIncrement()) {
+                int lo = (int) ((long) count * chunk / chunkCount);
+                int hi = (int) ((long) count * (chunk + 1) / chunkCount);
+                TPartial partial = mapper.apply(this.pipeline.apply(Skip.skip(Take.take(items, hi), lo)));
+                if (ordered != null)
+                    ordered[chunk] = partial;
+                else
+                    unordered.add(partial);
+            }
+        }));
+
+        if (ordered != null) {
+            for (Object partial : ordered)
+                //noinspection unchecked
+                partials.add((TPartial) partial);
+        } else {
+            partials.addAll(unordered);
+        }
+        return partials;
+    }
+
+    @Override
+    public TResult[] _toArray(Class<TResult> clazz) {
+        List<TResult> list = this._toList();
+        return list.toArray(ArrayUtils.newInstance(clazz, list.size()));
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this._toList().toArray();
+    }
+
+    @Override
+    public List<TResult> _toList() {
+        List<List<TResult>> partials = this.mapChunks(ToCollection::toList);
+        if (partials.size() == 1)
+            return partials.get(0);
+        int count = 0;
+        for (List<TResult> partial : partials)
+            count = Math.addExact(count, partial.size());
+        List<TResult> list = new ArrayList<>(count);
+        for (List<TResult> partial : partials)
+            list.addAll(partial);
+        return list;
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        if (onlyIfCheap)
+            return -1;
+        int count = 0;
+        for (int partial : this.mapChunks(Count::count))
+            count = Math.addExact(count, partial);
+        return count;
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private final int lo;
+        private final int hi;
+        private final IntConsumer body;
+
+        private ChunkTask(int lo, int hi, IntConsumer body) {
+            this.lo = lo;
+            this.hi = hi;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.hi - this.lo == 1) {
+                this.body.accept(this.lo);
+                return;
+            }
+            int mid = (this.lo + this.hi) >>> 1;
+            invokeAll(new ChunkTask(this.lo, mid, this.body), new ChunkTask(mid, this.hi, this.body));
+        }
+    }
+}
+
+
+/**
+ * Source of a parallel query whose elements are produced by a previous parallel stage, computed once and shared by every enumeration.
+ */
+final class ParallelBarrierIterator<TSource> extends AbstractIterator<TSource> implements IIListProvider<TSource> {
+    private final Results results;
+    private Object[] buffer;
+    private int index;
+
+    ParallelBarrierIterator(Func0<Object[]> results) {
+        this(new Results(results));
+    }
+
+    private ParallelBarrierIterator(Results results) {
+        this.results = results;
+    }
+
+    @Override
+    public AbstractIterator<TSource> clone() {
+        return new ParallelBarrierIterator<>(this.results);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.buffer = this.results.get();
+                this.index = 0;
+                this.state = 2;
+            case 2:
+                if (this.index < this.buffer.length) {
+                    //noinspection unchecked
+                    this.current = (TSource) this.buffer[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.buffer = null;
+        super.close();
+    }
+
+    @Override
+    public TSource[] _toArray(Class<TSource> clazz) {
+        return ArrayUtils.toArray(this.results.get(), clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.results.get().clone();
+    }
+
+    @Override
+    public List<TSource> _toList() {
+        return ArrayUtils.toList(this.results.get());
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap && !this.results.isComputed() ? -1 : this.results.get().length;
+    }
+
+    private static final class Results {
+        private Func0<Object[]> factory;
+        private volatile Object[] values;
+
+        private Results(Func0<Object[]> factory) {
+            this.factory = factory;
+        }
+
+        private boolean isComputed() {
+            return this.values != null;
+        }
+
+        private Object[] get() {
+            Object[] values = this.values;
+            if (values == null) {
+                synchronized (this) {
+                    values = this.values;
+                    if (values == null) {
+                        this.values = values = this.factory.apply();
+                        this.factory = null;
+                    }
+                }
+            }
+            return values;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -71,6 +72,15 @@ final class RangeIterator extends Iterator<Integer> implements IPartition<Intege
         }
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<Integer> action) {
+        for (int cur = this.start; cur != this.end; ++cur) {
+            if (action.apply(cur))
+                return true;
+        }
+        return false;
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<Integer, TResult> selector) {
         return new SelectRangeIterator<>(this.start, this.end, selector);
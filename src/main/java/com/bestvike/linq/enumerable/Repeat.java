@@ -1,6 +1,7 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -69,6 +70,15 @@ final class RepeatIterator<TResult> extends Iterator<TResult> implements IPartit
         this.state = -1;
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TResult> action) {
+        for (int i = 0; i != this.count; ++i) {
+            if (action.apply(this.current))
+                return true;
+        }
+        return false;
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new SelectRepeatIterator<>(this.current, this.count, selector);
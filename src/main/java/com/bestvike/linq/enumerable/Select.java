@@ -5,6 +5,7 @@ import com.bestvike.collections.generic.IArrayList;
 import com.bestvike.collections.generic.IList;
 import com.bestvike.function.Func1;
 import com.bestvike.function.IndexFunc2;
+import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.debug.DebuggerDisplay;
@@ -165,6 +166,22 @@ final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult>
         super.close();
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TResult> action) {
+        try (IEnumerator<TSource> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                if (action.apply(this.selector.apply(e.current())))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    FusedIterator<?, TResult> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.map(null, this.selector));
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new SelectEnumerableIterator<>(this.source, Utilities.combineSelectors(this.selector, selector));
@@ -258,6 +275,20 @@ final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> impl
         return true;
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TResult> action) {
+        for (int i = 0, count = this.source._getCount(); i < count; i++) {
+            if (action.apply(this.selector.apply(this.source.get(i))))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    FusedIterator<?, TResult> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.map(null, this.selector));
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new SelectArrayIterator<>(this.source, Utilities.combineSelectors(this.selector, selector));
@@ -642,6 +673,23 @@ final class SelectListIterator<TSource, TResult> extends Iterator<TResult> imple
         super.close();
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TResult> action) {
+        // pulls from the list's own enumerator like moveNext, so a list modified by the action is detected the same way
+        try (IEnumerator<TSource> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                if (action.apply(this.selector.apply(e.current())))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    FusedIterator<?, TResult> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.map(null, this.selector));
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new SelectListIterator<>(this.source, Utilities.combineSelectors(this.selector, selector));
@@ -795,6 +843,11 @@ final class SelectIListIterator<TSource, TResult> extends Iterator<TResult> impl
         super.close();
     }
 
+    @Override
+    FusedIterator<?, TResult> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.map(null, this.selector));
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new SelectIListIterator<>(this.source, Utilities.combineSelectors(this.selector, selector));
@@ -0,0 +1,116 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class SemiJoin {
+    private SemiJoin() {
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> semiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector) {
+        return semiJoin(outer, inner, outerKeySelector, innerKeySelector, null);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> semiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, IEqualityComparer<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector);
+        return new SemiJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, comparer, false);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> antiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector) {
+        return antiJoin(outer, inner, outerKeySelector, innerKeySelector, null);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> antiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, IEqualityComparer<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector);
+        return new SemiJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, comparer, true);
+    }
+
+    private static void checkArguments(IEnumerable<?> outer, IEnumerable<?> inner, Func1<?, ?> outerKeySelector, Func1<?, ?> innerKeySelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+    }
+}
+
+
+// Yields the outer elements whose key has (or, when anti, has not) a match among the inner keys; null keys never match.
+final class SemiJoinIterator<TOuter, TInner, TKey> extends AbstractIterator<TOuter> {
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final IEqualityComparer<TKey> comparer;
+    private final boolean anti;
+    private Set<TKey> set;
+    private IEnumerator<TOuter> enumerator;
+
+    SemiJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, IEqualityComparer<TKey> comparer, boolean anti) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.comparer = comparer;
+        this.anti = anti;
+    }
+
+    @Override
+    public AbstractIterator<TOuter> clone() {
+        return new SemiJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.comparer, this.anti);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.set = new Set<>(this.comparer);
+                try (IEnumerator<TInner> e = this.inner.enumerator()) {
+                    while (e.moveNext()) {
+                        TKey key = this.innerKeySelector.apply(e.current());
+                        if (key != null)
+                            this.set.add(key);
+                    }
+                }
+                if (this.set.getCount() == 0 && !this.anti) {
+                    this.close();
+                    return false;
+                }
+                this.enumerator = this.outer.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    TOuter item = this.enumerator.current();
+                    TKey key = this.outerKeySelector.apply(item);
+                    if ((key != null && this.set.contains(key)) != this.anti) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        this.set = null;
+        super.close();
+    }
+}
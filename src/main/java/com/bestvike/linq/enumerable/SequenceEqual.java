@@ -1,6 +1,7 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.IArray;
 import com.bestvike.collections.generic.IArrayList;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.collections.generic.IEqualityComparer;
@@ -34,6 +35,20 @@ public final class SequenceEqual {
             if (firstCol._getCount() != secondCol._getCount())
                 return false;
 
+            if (firstCol instanceof IArray && secondCol instanceof IArray && comparer == EqualityComparer.Default()) {
+                IArray<TSource> firstArray = (IArray<TSource>) first;
+                IArray<TSource> secondArray = (IArray<TSource>) second;
+                Object firstValues = firstArray.getArray();
+                Object secondValues = secondArray.getArray();
+                int count = firstCol._getCount();
+                if (firstValues instanceof int[] && secondValues instanceof int[])
+                    return sequenceEqual((int[]) firstValues, firstArray._getStartIndex(), (int[]) secondValues, secondArray._getStartIndex(), count);
+                if (firstValues instanceof long[] && secondValues instanceof long[])
+                    return sequenceEqual((long[]) firstValues, firstArray._getStartIndex(), (long[]) secondValues, secondArray._getStartIndex(), count);
+                if (firstValues instanceof double[] && secondValues instanceof double[])
+                    return sequenceEqual((double[]) firstValues, firstArray._getStartIndex(), (double[]) secondValues, secondArray._getStartIndex(), count);
+            }
+
             if (firstCol instanceof IArrayList && secondCol instanceof IArrayList) {
                 IArrayList<TSource> firstList = (IArrayList<TSource>) first;
                 IArrayList<TSource> secondList = (IArrayList<TSource>) second;
@@ -56,4 +71,29 @@ public final class SequenceEqual {
             return !e2.moveNext();
         }
     }
+
+    private static boolean sequenceEqual(int[] first, int firstIndex, int[] second, int secondIndex, int count) {
+        for (int i = 0; i < count; i++) {
+            if (first[firstIndex + i] != second[secondIndex + i])
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean sequenceEqual(long[] first, int firstIndex, long[] second, int secondIndex, int count) {
+        for (int i = 0; i < count; i++) {
+            if (first[firstIndex + i] != second[secondIndex + i])
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean sequenceEqual(double[] first, int firstIndex, double[] second, int secondIndex, int count) {
+        // compare bits, the default comparer uses Double.equals
+        for (int i = 0; i < count; i++) {
+            if (Double.doubleToLongBits(first[firstIndex + i]) != Double.doubleToLongBits(second[secondIndex + i]))
+                return false;
+        }
+        return true;
+    }
 }
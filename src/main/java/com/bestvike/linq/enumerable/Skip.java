@@ -8,9 +8,7 @@ import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
-
-import java.util.ArrayDeque;
-import java.util.Queue;
+import com.bestvike.out;
 
 /**
  * Created by 许崇雷 on 2018-05-04.
@@ -30,6 +28,10 @@ public final class Skip {
         } else if (source instanceof IPartition) {
             IPartition<TSource> partition = (IPartition<TSource>) source;
             return partition._skip(count);
+        } else if (source instanceof Iterator) {
+            FusedIterator<?, TSource> fused = ((Iterator<TSource>) source)._fuse();
+            if (fused != null)
+                return fused._skip(count);
         }
 
         if (source instanceof IList) {
@@ -212,7 +214,8 @@ final class SkipLastIterator<TSource> extends AbstractIterator<TSource> {
     private final IEnumerable<TSource> source;
     private final int count;
     private IEnumerator<TSource> enumerator;
-    private Queue<TSource> queue;
+    private int remaining;
+    private RingBuffer<TSource> buffer;
 
     SkipLastIterator(IEnumerable<TSource> source, int count) {
         assert source != null;
@@ -230,22 +233,31 @@ final class SkipLastIterator<TSource> extends AbstractIterator<TSource> {
     public boolean moveNext() {
         switch (this.state) {
             case 1:
-                this.queue = new ArrayDeque<>();
+                // With a cheap count the number of elements to yield is known up front, so they are streamed without holding the last ones back in a ring buffer.
+                out<Integer> countRef = out.init();
+                if (EnumerableHelpers.tryGetCount(this.source, countRef)) {
+                    this.remaining = countRef.value - this.count;
+                    this.enumerator = this.source.enumerator();
+                    this.state = 3;
+                    return this.moveNext();
+                }
+                this.buffer = new RingBuffer<>(this.count);
                 this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
                 while (this.enumerator.moveNext()) {
-                    if (this.queue.size() == this.count) {
-                        this.current = this.queue.remove();
-                        this.state = 2;
+                    if (this.buffer.isFull()) {
+                        this.current = this.buffer.exchange(this.enumerator.current());
                         return true;
                     }
-                    this.queue.add(this.enumerator.current());
+                    this.buffer.add(this.enumerator.current());
                 }
                 this.close();
                 return false;
-            case 2:
-                this.queue.add(this.enumerator.current());
-                if (this.enumerator.moveNext()) {
-                    this.current = this.queue.remove();
+            case 3:
+                if (this.remaining > 0 && this.enumerator.moveNext()) {
+                    this.remaining--;
+                    this.current = this.enumerator.current();
                     return true;
                 }
                 this.close();
@@ -260,7 +272,7 @@ final class SkipLastIterator<TSource> extends AbstractIterator<TSource> {
         if (this.enumerator != null) {
             this.enumerator.close();
             this.enumerator = null;
-            this.queue = null;
+            this.buffer = null;
         }
         super.close();
     }
@@ -1,5 +1,6 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.collections.generic.IArray;
 import com.bestvike.function.DecimalFunc1;
 import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.FloatFunc1;
@@ -28,12 +29,19 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        int sum = 0;
-        try (IEnumerator<Integer> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, e.current());
+        if (source instanceof IArray) {
+            IArray<Integer> array = (IArray<Integer>) source;
+            Object values = array.getArray();
+            if (values instanceof int[])
+                return IntEnumerable.sum(new IntArrayIterator((int[]) values, array._getStartIndex(), array._getEndIndex()));
         }
-        return sum;
+
+        int[] sum = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] = Math.addExact(sum[0], x);
+            return false;
+        });
+        return sum[0];
     }
 
     public static int sumIntNull(IEnumerable<Integer> source) {
@@ -55,12 +63,19 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        long sum = 0;
-        try (IEnumerator<Long> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, e.current());
+        if (source instanceof IArray) {
+            IArray<Long> array = (IArray<Long>) source;
+            Object values = array.getArray();
+            if (values instanceof long[])
+                return LongEnumerable.sum(new LongArrayIterator((long[]) values, array._getStartIndex(), array._getEndIndex()));
         }
-        return sum;
+
+        long[] sum = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] = Math.addExact(sum[0], x);
+            return false;
+        });
+        return sum[0];
     }
 
     public static long sumLongNull(IEnumerable<Long> source) {
@@ -82,12 +97,12 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        double sum = 0;
-        try (IEnumerator<Float> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += e.current();
-        }
-        return (float) sum;
+        double[] sum = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] += x;
+            return false;
+        });
+        return (float) sum[0];
     }
 
     public static float sumFloatNull(IEnumerable<Float> source) {
@@ -109,12 +124,19 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        double sum = 0;
-        try (IEnumerator<Double> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += e.current();
+        if (source instanceof IArray) {
+            IArray<Double> array = (IArray<Double>) source;
+            Object values = array.getArray();
+            if (values instanceof double[])
+                return DoubleEnumerable.sum(new DoubleArrayIterator((double[]) values, array._getStartIndex(), array._getEndIndex()));
         }
-        return sum;
+
+        double[] sum = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] += x;
+            return false;
+        });
+        return sum[0];
     }
 
     public static double sumDoubleNull(IEnumerable<Double> source) {
@@ -136,12 +158,12 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        BigDecimal sum = BigDecimal.ZERO;
-        try (IEnumerator<BigDecimal> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = sum.add(e.current());
-        }
-        return sum;
+        BigDecimal[] sum = {BigDecimal.ZERO};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] = sum[0].add(x);
+            return false;
+        });
+        return sum[0];
     }
 
     public static BigDecimal sumDecimalNull(IEnumerable<BigDecimal> source) {
@@ -165,12 +187,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        int sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, selector.apply(e.current()));
-        }
-        return sum;
+        int[] sum = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] = Math.addExact(sum[0], selector.apply(x));
+            return false;
+        });
+        return sum[0];
     }
 
     public static <TSource> int sumIntNull(IEnumerable<TSource> source, NullableIntFunc1<TSource> selector) {
@@ -196,12 +218,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        long sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, selector.apply(e.current()));
-        }
-        return sum;
+        long[] sum = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] = Math.addExact(sum[0], selector.apply(x));
+            return false;
+        });
+        return sum[0];
     }
 
     public static <TSource> long sumLongNull(IEnumerable<TSource> source, NullableLongFunc1<TSource> selector) {
@@ -227,12 +249,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        double sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += selector.apply(e.current());
-        }
-        return (float) sum;
+        double[] sum = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] += selector.apply(x);
+            return false;
+        });
+        return (float) sum[0];
     }
 
     public static <TSource> float sumFloatNull(IEnumerable<TSource> source, NullableFloatFunc1<TSource> selector) {
@@ -258,12 +280,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        double sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += selector.apply(e.current());
-        }
-        return sum;
+        double[] sum = {0};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] += selector.apply(x);
+            return false;
+        });
+        return sum[0];
     }
 
     public static <TSource> double sumDoubleNull(IEnumerable<TSource> source, NullableDoubleFunc1<TSource> selector) {
@@ -289,12 +311,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        BigDecimal sum = BigDecimal.ZERO;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = sum.add(selector.apply(e.current()));
-        }
-        return sum;
+        BigDecimal[] sum = {BigDecimal.ZERO};
+        EnumerableHelpers.forEachUntil(source, x -> {
+            sum[0] = sum[0].add(selector.apply(x));
+            return false;
+        });
+        return sum[0];
     }
 
     public static <TSource> BigDecimal sumDecimalNull(IEnumerable<TSource> source, NullableDecimalFunc1<TSource> selector) {
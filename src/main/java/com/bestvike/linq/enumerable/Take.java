@@ -8,9 +8,7 @@ import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
-
-import java.util.ArrayDeque;
-import java.util.Queue;
+import com.bestvike.out;
 
 /**
  * Created by 许崇雷 on 2018-05-08.
@@ -31,6 +29,12 @@ public final class Take {
             return partition._take(count);
         }
 
+        if (source instanceof Iterator) {
+            FusedIterator<?, TSource> fused = ((Iterator<TSource>) source)._fuse();
+            if (fused != null)
+                return fused._take(count);
+        }
+
         if (source instanceof IList) {
             if (source instanceof IArrayList) {
                 IArrayList<TSource> sourceList = (IArrayList<TSource>) source;
@@ -195,7 +199,9 @@ final class TakeWhileIterator2<TSource> extends AbstractIterator<TSource> {
 final class TakeLastIterator<TSource> extends AbstractIterator<TSource> {
     private final IEnumerable<TSource> source;
     private final int count;
-    private Queue<TSource> queue;
+    private IEnumerator<TSource> enumerator;
+    private int remaining;
+    private RingBuffer<TSource> buffer;
 
     TakeLastIterator(IEnumerable<TSource> source, int count) {
         assert source != null;
@@ -213,32 +219,41 @@ final class TakeLastIterator<TSource> extends AbstractIterator<TSource> {
     public boolean moveNext() {
         switch (this.state) {
             case 1:
+                // With a cheap count the tail starts at a known index, skip reaches it by index for lists and partitions so nothing goes through the ring buffer.
+                out<Integer> countRef = out.init();
+                if (EnumerableHelpers.tryGetCount(this.source, countRef)) {
+                    this.enumerator = Skip.skip(this.source, countRef.value - this.count).enumerator();
+                    this.remaining = this.count;
+                    this.state = 3;
+                    return this.moveNext();
+                }
                 try (IEnumerator<TSource> e = this.source.enumerator()) {
                     if (!e.moveNext()) {
                         this.close();
                         return false;
                     }
-                    this.queue = new ArrayDeque<>();
-                    this.queue.add(e.current());
-                    while (e.moveNext()) {
-                        if (this.queue.size() < this.count) {
-                            this.queue.add(e.current());
-                            continue;
-                        }
-                        do {
-                            this.queue.remove();
-                            this.queue.add(e.current());
-                        } while (e.moveNext());
-                        break;
-                    }
+                    this.buffer = new RingBuffer<>(this.count);
+                    do {
+                        if (this.buffer.isFull())
+                            this.buffer.exchange(e.current());
+                        else
+                            this.buffer.add(e.current());
+                    } while (e.moveNext());
                 }
-                assert this.queue.size() <= this.count;
-                this.current = this.queue.remove();
+                this.current = this.buffer.remove();
                 this.state = 2;
                 return true;
             case 2:
-                if (this.queue.size() > 0) {
-                    this.current = this.queue.remove();
+                if (this.buffer.getCount() > 0) {
+                    this.current = this.buffer.remove();
+                    return true;
+                }
+                this.close();
+                return false;
+            case 3:
+                if (this.remaining > 0 && this.enumerator.moveNext()) {
+                    this.remaining--;
+                    this.current = this.enumerator.current();
                     return true;
                 }
                 this.close();
@@ -250,7 +265,11 @@ final class TakeLastIterator<TSource> extends AbstractIterator<TSource> {
 
     @Override
     public void close() {
-        this.queue = null;
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        this.buffer = null;
         super.close();
     }
 }
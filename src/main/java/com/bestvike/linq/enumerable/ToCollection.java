@@ -2,12 +2,14 @@ package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.IArrayList;
 import com.bestvike.collections.generic.ICollection;
+import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Action2;
 import com.bestvike.function.Func1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.out;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,6 +37,12 @@ public final class ToCollection {
         return Integer.MAX_VALUE;
     }
 
+    // The number of entries to reserve for the source, when it can be counted without enumerating it.
+    private static int presize(IEnumerable<?> source) {
+        out<Integer> countRef = out.init();
+        return EnumerableHelpers.tryGetCount(source, countRef) ? countRef.value : 0;
+    }
+
     public static <TSource> TSource[] toArray(IEnumerable<TSource> source, Class<TSource> clazz) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
@@ -183,6 +191,58 @@ public final class ToCollection {
         return map;
     }
 
+    public static <TSource, TKey> Map<TKey, TSource> toMap(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        ComparerMap<TKey, TSource> map = new ComparerMap<>(comparer, presize(source));
+        if (source instanceof IArrayList) {
+            IArrayList<TSource> list = (IArrayList<TSource>) source;
+            for (int i = 0, count = list._getCount(); i < count; i++) {
+                TSource element = list.get(i);
+                map.putIfAbsent(keySelector.apply(element), element);
+            }
+            return map;
+        }
+
+        try (IEnumerator<TSource> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TSource element = e.current();
+                map.putIfAbsent(keySelector.apply(element), element);
+            }
+        }
+        return map;
+    }
+
+    public static <TSource, TKey, TElement> Map<TKey, TElement> toMap(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        ComparerMap<TKey, TElement> map = new ComparerMap<>(comparer, presize(source));
+        if (source instanceof IArrayList) {
+            IArrayList<TSource> list = (IArrayList<TSource>) source;
+            for (int i = 0, count = list._getCount(); i < count; i++) {
+                TSource element = list.get(i);
+                map.putIfAbsent(keySelector.apply(element), elementSelector.apply(element));
+            }
+            return map;
+        }
+
+        try (IEnumerator<TSource> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TSource element = e.current();
+                map.putIfAbsent(keySelector.apply(element), elementSelector.apply(element));
+            }
+        }
+        return map;
+    }
+
     public static <TSource, TKey> Map<TKey, TSource> toLinkedMap(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
@@ -269,6 +329,15 @@ public final class ToCollection {
         return map;
     }
 
+    public static <TSource, TKey> Map<TKey, TSource> toLinkedMap(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        // ComparerMap keeps insertion order, the comparer overload of toMap already returns a linked map.
+        return toMap(source, keySelector, comparer);
+    }
+
+    public static <TSource, TKey, TElement> Map<TKey, TElement> toLinkedMap(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        return toMap(source, keySelector, elementSelector, comparer);
+    }
+
     public static <TSource> Set<TSource> toSet(IEnumerable<TSource> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
@@ -304,6 +373,25 @@ public final class ToCollection {
         return set;
     }
 
+    public static <TSource> Set<TSource> toSet(IEnumerable<TSource> source, IEqualityComparer<TSource> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        ComparerSet<TSource> set = new ComparerSet<>(comparer, presize(source));
+        if (source instanceof IArrayList) {
+            IArrayList<TSource> list = (IArrayList<TSource>) source;
+            for (int i = 0, count = list._getCount(); i < count; i++)
+                set.add(list.get(i));
+            return set;
+        }
+
+        try (IEnumerator<TSource> e = source.enumerator()) {
+            while (e.moveNext())
+                set.add(e.current());
+        }
+        return set;
+    }
+
     public static <TSource> Set<TSource> toLinkedSet(IEnumerable<TSource> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
@@ -339,6 +427,11 @@ public final class ToCollection {
         return set;
     }
 
+    public static <TSource> Set<TSource> toLinkedSet(IEnumerable<TSource> source, IEqualityComparer<TSource> comparer) {
+        // ComparerSet keeps insertion order, the comparer overload of toSet already returns a linked set.
+        return toSet(source, comparer);
+    }
+
     public static <TSource, TCollection> TCollection toCollection(IEnumerable<TSource> source, TCollection collection, Action2<TCollection, TSource> action) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
@@ -5,9 +5,11 @@ import com.bestvike.collections.generic.ICollection;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.out;
 
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * Created by 许崇雷 on 2019-04-25.
@@ -35,7 +37,7 @@ public final class ToSpliterator {
                     if (componentType == double.class)
                         //noinspection unchecked
                         return (Spliterator<TSource>) Spliterators.spliterator((double[]) arr, array._getStartIndex(), array._getEndIndex(), Spliterator.IMMUTABLE);
-                    return Spliterators.spliterator(array._toArray(), array._getStartIndex(), array._getEndIndex(), Spliterator.IMMUTABLE);
+                    return Spliterators.spliterator(array._toArray(), Spliterator.IMMUTABLE);
                 }
                 return Spliterators.spliterator((Object[]) arr, array._getStartIndex(), array._getEndIndex(), Spliterator.IMMUTABLE);
             }
@@ -44,6 +46,14 @@ public final class ToSpliterator {
             return Spliterators.spliterator(collection.getCollection(), Spliterator.IMMUTABLE);
         }
 
+        if (source instanceof IPartition) {
+            IPartition<TSource> partition = (IPartition<TSource>) source;
+            if (EnumerableHelpers.isRandomAccess(partition))
+                return new PartitionSpliterator<>(partition, 0, partition._getCount(true));
+            if (partition instanceof AbstractOrderedEnumerable || partition instanceof OrderedPartition)
+                return new OrderedSpliterator<>(partition);
+        }
+
         if (source instanceof IIListProvider) {
             IIListProvider<TSource> listProv = (IIListProvider<TSource>) source;
             int count = listProv._getCount(true);
@@ -54,3 +64,123 @@ public final class ToSpliterator {
         return Spliterators.spliteratorUnknownSize(source.enumerator(), Spliterator.IMMUTABLE);
     }
 }
+
+
+/**
+ * Splits a random access partition by index, elements are fetched (and projected) only when a split traverses them.
+ */
+final class PartitionSpliterator<TElement> implements Spliterator<TElement> {
+    private final IPartition<TElement> source;
+    private final out<Boolean> found = out.init();
+    private int index;
+    private final int fence;
+
+    PartitionSpliterator(IPartition<TElement> source, int origin, int fence) {
+        this.source = source;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TElement> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        if (this.index < this.fence) {
+            action.accept(this.source._tryGetElementAt(this.index++, this.found));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TElement> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        int fence = this.fence;
+        for (int i = this.index; i < fence; i++)
+            action.accept(this.source._tryGetElementAt(i, this.found));
+        this.index = fence;
+    }
+
+    @Override
+    public Spliterator<TElement> trySplit() {
+        int lo = this.index;
+        int mid = (lo + this.fence) >>> 1;
+        if (lo >= mid)
+            return null;
+        this.index = mid;
+        return new PartitionSpliterator<>(this.source, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    }
+}
+
+
+/**
+ * Sorts an ordered partition into an array on the first traversal or split, so building the stream does not run the key selectors.
+ */
+final class OrderedSpliterator<TElement> implements Spliterator<TElement> {
+    private IPartition<TElement> source;
+    private final int count;
+    private final int characteristics;
+    private Spliterator<TElement> spliterator;
+
+    OrderedSpliterator(IPartition<TElement> source) {
+        this.source = source;
+        this.count = source._getCount(true);
+        this.characteristics = this.count == -1
+                ? Spliterator.ORDERED | Spliterator.IMMUTABLE
+                : Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    }
+
+    private Spliterator<TElement> getSpliterator() {
+        if (this.spliterator == null) {
+            this.spliterator = Spliterators.spliterator(this.source._toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            this.source = null;
+        }
+        return this.spliterator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TElement> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        return this.getSpliterator().tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TElement> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        this.getSpliterator().forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<TElement> trySplit() {
+        return this.getSpliterator().trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+        if (this.spliterator != null)
+            return this.spliterator.estimateSize();
+        return this.count == -1 ? Long.MAX_VALUE : this.count;
+    }
+
+    @Override
+    public int characteristics() {
+        return this.characteristics;
+    }
+}
@@ -157,6 +157,23 @@ final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implement
         super.close();
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TSource> action) {
+        try (IEnumerator<TSource> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                TSource item = e.current();
+                if (this.predicate.apply(item) && action.apply(item))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    FusedIterator<?, TSource> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.filter(null, this.predicate));
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<TSource, TResult> selector) {
         return new WhereSelectEnumerableIterator<>(this.source, this.predicate, selector);
@@ -261,6 +278,21 @@ final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIL
         return false;
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TSource> action) {
+        for (int i = 0, count = this.source._getCount(); i < count; i++) {
+            TSource item = this.source.get(i);
+            if (this.predicate.apply(item) && action.apply(item))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    FusedIterator<?, TSource> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.filter(null, this.predicate));
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<TSource, TResult> selector) {
         return new WhereSelectArrayIterator<>(this.source, this.predicate, selector);
@@ -372,6 +404,23 @@ final class WhereListIterator<TSource> extends Iterator<TSource> implements IILi
         super.close();
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TSource> action) {
+        try (IEnumerator<TSource> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                TSource item = e.current();
+                if (this.predicate.apply(item) && action.apply(item))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    FusedIterator<?, TSource> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.filter(null, this.predicate));
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<TSource, TResult> selector) {
         return new WhereSelectListIterator<>(this.source, this.predicate, selector);
@@ -473,6 +522,21 @@ final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult>
         return false;
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TResult> action) {
+        for (int i = 0, count = this.source._getCount(); i < count; i++) {
+            TSource item = this.source.get(i);
+            if (this.predicate.apply(item) && action.apply(this.selector.apply(item)))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    FusedIterator<?, TResult> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.map(FusedIterator.filter(null, this.predicate), this.selector));
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new WhereSelectArrayIterator<>(this.source, this.predicate, Utilities.combineSelectors(this.selector, selector));
@@ -587,6 +651,23 @@ final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult>
         super.close();
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TResult> action) {
+        try (IEnumerator<TSource> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                TSource item = e.current();
+                if (this.predicate.apply(item) && action.apply(this.selector.apply(item)))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    FusedIterator<?, TResult> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.map(FusedIterator.filter(null, this.predicate), this.selector));
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new WhereSelectListIterator<>(this.source, this.predicate, Utilities.combineSelectors(this.selector, selector));
@@ -701,6 +782,23 @@ final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TRe
         super.close();
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TResult> action) {
+        try (IEnumerator<TSource> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                TSource item = e.current();
+                if (this.predicate.apply(item) && action.apply(this.selector.apply(item)))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    FusedIterator<?, TResult> _fuse() {
+        return new FusedIterator<>(this.source, FusedIterator.map(FusedIterator.filter(null, this.predicate), this.selector));
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new WhereSelectEnumerableIterator<>(this.source, this.predicate, Utilities.combineSelectors(this.selector, selector));
@@ -0,0 +1,349 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.IEqualityComparer;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+@SuppressWarnings("unchecked")
+final class ComparerMap<TKey, TValue> extends AbstractMap<TKey, TValue> {
+    private static final int DEFAULT_CAPACITY = 4;
+    // Marks the key of a removed entry, its slot stays occupied so that probing goes past it.
+    private static final Object REMOVED = new Object();
+    private final IEqualityComparer<TKey> comparer;
+    // Entries are stored as parallel arrays in insertion order, slots are probed linearly and hold the entry index plus one.
+    private int[] slots;
+    private int[] hashCodes;
+    private Object[] keys;
+    private Object[] values;
+    private int used;
+    private int size;
+    private int modCount;
+    private EntrySet entrySet;
+
+    ComparerMap(IEqualityComparer<TKey> comparer, int capacity) {
+        assert capacity >= 0;
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+        this.allocate(Math.max(capacity, DEFAULT_CAPACITY));
+    }
+
+    private void allocate(int capacity) {
+        // Keep the slots at most half full, linear probing degrades quickly above that.
+        this.slots = new int[(int) Math.min((long) Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2, 1 << 30)];
+        this.hashCodes = new int[capacity];
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+    }
+
+    private int hash(Object key) {
+        if (key == null)
+            return 0;
+        int h = this.comparer.hashCode((TKey) key);
+        return h ^ (h >>> 16);
+    }
+
+    private int find(Object key, int hashCode) {
+        int mask = this.slots.length - 1;
+        for (int i = hashCode & mask; ; i = (i + 1) & mask) {
+            int slot = this.slots[i];
+            if (slot == 0)
+                return -1;
+            int index = slot - 1;
+            Object candidate = this.keys[index];
+            if (this.hashCodes[index] == hashCode && candidate != REMOVED && this.comparer.equals((TKey) candidate, (TKey) key))
+                return index;
+        }
+    }
+
+    private void insert(TKey key, int hashCode, TValue value) {
+        if (this.used == this.keys.length)
+            this.resize();
+        int index = this.used++;
+        this.hashCodes[index] = hashCode;
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.place(index, hashCode);
+        this.size++;
+        this.modCount++;
+    }
+
+    private void place(int index, int hashCode) {
+        int mask = this.slots.length - 1;
+        int i = hashCode & mask;
+        while (this.slots[i] != 0)
+            i = (i + 1) & mask;
+        this.slots[i] = index + 1;
+    }
+
+    // Drops the removed entries and doubles the capacity if the live ones still fill more than half of it.
+    private void resize() {
+        int[] hashCodes = this.hashCodes;
+        Object[] keys = this.keys;
+        Object[] values = this.values;
+        int used = this.used;
+        this.allocate(this.size > keys.length >> 1 ? Math.max(keys.length << 1, DEFAULT_CAPACITY) : keys.length);
+        int index = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] == REMOVED)
+                continue;
+            this.hashCodes[index] = hashCodes[i];
+            this.keys[index] = keys[i];
+            this.values[index] = values[i];
+            this.place(index, hashCodes[i]);
+            index++;
+        }
+        this.used = index;
+    }
+
+    private void removeAt(int index) {
+        this.keys[index] = REMOVED;
+        this.values[index] = null;
+        this.size--;
+        this.modCount++;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.find(key, this.hash(key)) >= 0;
+    }
+
+    @Override
+    public TValue get(Object key) {
+        int index = this.find(key, this.hash(key));
+        return index < 0 ? null : (TValue) this.values[index];
+    }
+
+    @Override
+    public TValue put(TKey key, TValue value) {
+        int hashCode = this.hash(key);
+        int index = this.find(key, hashCode);
+        if (index >= 0) {
+            TValue old = (TValue) this.values[index];
+            this.values[index] = value;
+            return old;
+        }
+        this.insert(key, hashCode, value);
+        return null;
+    }
+
+    @Override
+    public TValue putIfAbsent(TKey key, TValue value) {
+        int hashCode = this.hash(key);
+        int index = this.find(key, hashCode);
+        if (index >= 0 && this.values[index] != null)
+            return (TValue) this.values[index];
+        if (index >= 0)
+            this.values[index] = value;
+        else
+            this.insert(key, hashCode, value);
+        return null;
+    }
+
+    // Adds the key if it is absent and returns whether it was added.
+    boolean add(TKey key, TValue value) {
+        int hashCode = this.hash(key);
+        if (this.find(key, hashCode) >= 0)
+            return false;
+        this.insert(key, hashCode, value);
+        return true;
+    }
+
+    @Override
+    public TValue remove(Object key) {
+        int index = this.find(key, this.hash(key));
+        if (index < 0)
+            return null;
+        TValue old = (TValue) this.values[index];
+        this.removeAt(index);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        this.allocate(DEFAULT_CAPACITY);
+        this.used = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    // Iterates the keys without creating an entry for each of them.
+    Iterator<TKey> keyIterator() {
+        return new EntryIterator<TKey>() {
+            @Override
+            TKey get(int index) {
+                return (TKey) ComparerMap.this.keys[index];
+            }
+        };
+    }
+
+    @Override
+    public java.util.Set<Entry<TKey, TValue>> entrySet() {
+        return this.entrySet == null ? (this.entrySet = new EntrySet()) : this.entrySet;
+    }
+
+    // Iterates the live entries in insertion order.
+    private abstract class EntryIterator<T> implements Iterator<T> {
+        private int expectedModCount = ComparerMap.this.modCount;
+        private int next = this.skip(0);
+        private int last = -1;
+
+        private int skip(int index) {
+            while (index < ComparerMap.this.used && ComparerMap.this.keys[index] == REMOVED)
+                index++;
+            return index;
+        }
+
+        abstract T get(int index);
+
+        @Override
+        public boolean hasNext() {
+            return this.next < ComparerMap.this.used;
+        }
+
+        @Override
+        public T next() {
+            if (this.expectedModCount != ComparerMap.this.modCount)
+                throw new ConcurrentModificationException();
+            if (this.next >= ComparerMap.this.used)
+                throw new NoSuchElementException();
+            this.last = this.next;
+            this.next = this.skip(this.next + 1);
+            return this.get(this.last);
+        }
+
+        @Override
+        public void remove() {
+            if (this.last < 0)
+                throw new IllegalStateException();
+            if (this.expectedModCount != ComparerMap.this.modCount)
+                throw new ConcurrentModificationException();
+            ComparerMap.this.removeAt(this.last);
+            this.expectedModCount = ComparerMap.this.modCount;
+            this.last = -1;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<TKey, TValue>> {
+        @Override
+        public Iterator<Entry<TKey, TValue>> iterator() {
+            return new EntryIterator<Entry<TKey, TValue>>() {
+                @Override
+                Entry<TKey, TValue> get(int index) {
+                    return new MapEntry(index);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ComparerMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+            ComparerMap.this.clear();
+        }
+    }
+
+    // Reads and writes through to the entry as long as the map is not resized.
+    private final class MapEntry implements Entry<TKey, TValue> {
+        private final int index;
+
+        MapEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public TKey getKey() {
+            return (TKey) ComparerMap.this.keys[this.index];
+        }
+
+        @Override
+        public TValue getValue() {
+            return (TValue) ComparerMap.this.values[this.index];
+        }
+
+        @Override
+        public TValue setValue(TValue value) {
+            TValue old = this.getValue();
+            ComparerMap.this.values[this.index] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry))
+                return false;
+            Entry<?, ?> that = (Entry<?, ?>) obj;
+            return Objects.equals(this.getKey(), that.getKey()) && Objects.equals(this.getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.getKey()) ^ Objects.hashCode(this.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+}
+
+
+// A set view over the keys of a comparer map, the same way java.util.HashSet sits on java.util.HashMap.
+@SuppressWarnings("unchecked")
+final class ComparerSet<TElement> extends AbstractSet<TElement> {
+    private final ComparerMap<TElement, Object> map;
+
+    ComparerSet(IEqualityComparer<TElement> comparer, int capacity) {
+        this.map = new ComparerMap<>(comparer, capacity);
+    }
+
+    @Override
+    public Iterator<TElement> iterator() {
+        return this.map.keyIterator();
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return this.map.containsKey(o);
+    }
+
+    @Override
+    public boolean add(TElement element) {
+        return this.map.add(element, null);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!this.map.containsKey(o))
+            return false;
+        this.map.remove(o);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+}
@@ -0,0 +1,312 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IArrayList;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.util.Utilities;
+import com.bestvike.out;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+@SuppressWarnings("unchecked")
+final class FusedIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult> {
+    // Returned by a step when the element is filtered out, it never reaches a caller.
+    private static final Object REJECTED = new Object();
+    private final IEnumerable<TSource> source;
+    private final Func1<TSource, Object> step;// All where and select stages merged into one call, null means every element passes as is.
+    private final int minIndexInclusive;
+    private final int maxIndexInclusive;// -1 if there is no take limit.
+    private final Func1<Object, TResult> post;// Select stages after a skip or take, only run on the elements that are yielded.
+    private IEnumerator<TSource> enumerator;
+    private int skipped;
+    private int remaining;
+
+    FusedIterator(IEnumerable<TSource> source, Func1<TSource, Object> step) {
+        this(source, step, 0, -1, null);
+    }
+
+    private FusedIterator(IEnumerable<TSource> source, Func1<TSource, Object> step, int minIndexInclusive, int maxIndexInclusive, Func1<Object, TResult> post) {
+        assert source != null;
+        assert minIndexInclusive >= 0;
+        assert maxIndexInclusive == -1 || minIndexInclusive <= maxIndexInclusive;
+        this.source = source;
+        this.step = step;
+        this.minIndexInclusive = minIndexInclusive;
+        this.maxIndexInclusive = maxIndexInclusive;
+        this.post = post;
+    }
+
+    static <TSource> Func1<TSource, Object> filter(Func1<TSource, Object> step, Predicate1<?> predicate) {
+        Predicate1<Object> p = (Predicate1<Object>) predicate;
+        if (step == null)
+            return item -> p.apply(item) ? item : REJECTED;
+        return item -> {
+            Object value = step.apply(item);
+            return value != REJECTED && p.apply(value) ? value : REJECTED;
+        };
+    }
+
+    static <TSource> Func1<TSource, Object> map(Func1<TSource, Object> step, Func1<?, ?> selector) {
+        Func1<Object, Object> s = (Func1<Object, Object>) selector;
+        if (step == null)
+            return s::apply;
+        return item -> {
+            Object value = step.apply(item);
+            return value == REJECTED ? REJECTED : s.apply(value);
+        };
+    }
+
+    // If this is true (e.g. at least one Take call was made), then we have an upper bound on how many elements we can have.
+    private boolean hasLimit() {
+        return this.maxIndexInclusive != -1;
+    }
+
+    private int getLimit() {
+        return this.maxIndexInclusive + 1 - this.minIndexInclusive;
+    }
+
+    private boolean isPartitioned() {
+        return this.minIndexInclusive != 0 || this.hasLimit();
+    }
+
+    private Object apply(TSource item) {
+        return this.step == null ? item : this.step.apply(item);
+    }
+
+    private TResult result(Object value) {
+        return this.post == null ? (TResult) value : this.post.apply(value);
+    }
+
+    @Override
+    public Iterator<TResult> clone() {
+        return new FusedIterator<>(this.source, this.step, this.minIndexInclusive, this.maxIndexInclusive, this.post);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.skipped = 0;
+                this.remaining = this.getLimit();
+                this.state = 2;
+            case 2:
+                if (!this.hasLimit() || this.remaining > 0) {
+                    while (this.enumerator.moveNext()) {
+                        Object value = this.apply(this.enumerator.current());
+                        if (value == REJECTED)
+                            continue;
+                        if (this.skipped < this.minIndexInclusive) {
+                            this.skipped++;
+                            continue;
+                        }
+                        this.remaining--;
+                        this.current = this.result(value);
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    // Pushes the results to the action in one loop over the source, stops as soon as the take limit is reached.
+    @Override
+    public boolean _forEachUntil(Predicate1<TResult> action) {
+        int skipped = 0;
+        int remaining = this.hasLimit() ? this.getLimit() : -1;
+        if (this.source instanceof IArrayList) {
+            IArrayList<TSource> list = (IArrayList<TSource>) this.source;
+            for (int i = 0; i < list._getCount(); i++) {
+                Object value = this.apply(list.get(i));
+                if (value == REJECTED)
+                    continue;
+                if (skipped < this.minIndexInclusive) {
+                    skipped++;
+                    continue;
+                }
+                if (action.apply(this.result(value)))
+                    return true;
+                if (--remaining == 0)
+                    return false;
+            }
+            return false;
+        }
+
+        try (IEnumerator<TSource> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                Object value = this.apply(e.current());
+                if (value == REJECTED)
+                    continue;
+                if (skipped < this.minIndexInclusive) {
+                    skipped++;
+                    continue;
+                }
+                if (action.apply(this.result(value)))
+                    return true;
+                if (--remaining == 0)
+                    return false;
+            }
+        }
+        return false;
+    }
+
+    // Finds the value at the specified index of the results without running the post selector, REJECTED if there is none.
+    private Object find(int index, boolean last) {
+        int target = this.minIndexInclusive + index;
+        int end = this.hasLimit() ? this.maxIndexInclusive : Integer.MAX_VALUE;
+        Object found = REJECTED;
+        int i = 0;
+        try (IEnumerator<TSource> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                Object value = this.apply(e.current());
+                if (value == REJECTED)
+                    continue;
+                if (i >= target && (last || i == target))
+                    found = value;
+                if (i == (last ? end : target))
+                    break;
+                i++;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    FusedIterator<?, TResult> _fuse() {
+        return this;
+    }
+
+    @Override
+    public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
+        return this.isPartitioned()
+                ? new FusedIterator<>(this.source, this.step, this.minIndexInclusive, this.maxIndexInclusive, this.post == null ? (Func1<Object, TResult2>) selector : Utilities.combineSelectors(this.post, selector))
+                : new FusedIterator<>(this.source, map(this.step, selector));
+    }
+
+    @Override
+    public IEnumerable<TResult> _where(Predicate1<TResult> predicate) {
+        return this.isPartitioned()
+                ? new FusedIterator<>(this, filter(null, predicate))
+                : new FusedIterator<>(this.source, filter(this.step, predicate));
+    }
+
+    @Override
+    public IPartition<TResult> _skip(int count) {
+        int minIndex = this.minIndexInclusive + count;
+        if (!this.hasLimit()) {
+            if (minIndex < 0)
+                return new EnumerablePartition<>(this, count, -1);
+        } else if (Integer.compareUnsigned(minIndex, this.maxIndexInclusive) > 0) {
+            return EmptyPartition.instance();
+        }
+
+        return new FusedIterator<>(this.source, this.step, minIndex, this.maxIndexInclusive, this.post);
+    }
+
+    @Override
+    public IPartition<TResult> _take(int count) {
+        int maxIndex = this.minIndexInclusive + count - 1;
+        if (!this.hasLimit()) {
+            if (maxIndex < 0)
+                return new EnumerablePartition<>(this, 0, count - 1);
+        } else if (Integer.compareUnsigned(maxIndex, this.maxIndexInclusive) >= 0) {
+            return this;
+        }
+
+        return new FusedIterator<>(this.source, this.step, this.minIndexInclusive, maxIndex, this.post);
+    }
+
+    @Override
+    public TResult _tryGetElementAt(int index, out<Boolean> found) {
+        if (index >= 0 && (!this.hasLimit() || index < this.getLimit())) {
+            Object value = this.find(index, false);
+            if (value != REJECTED) {
+                found.value = true;
+                return this.result(value);
+            }
+        }
+
+        found.value = false;
+        return null;
+    }
+
+    @Override
+    public TResult _tryGetFirst(out<Boolean> found) {
+        return this._tryGetElementAt(0, found);
+    }
+
+    @Override
+    public TResult _tryGetLast(out<Boolean> found) {
+        Object value = this.find(0, true);
+        if (value != REJECTED) {
+            found.value = true;
+            return this.result(value);
+        }
+
+        found.value = false;
+        return null;
+    }
+
+    @Override
+    public TResult[] _toArray(Class<TResult> clazz) {
+        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+        this._forEachUntil(item -> {
+            builder.add(item);
+            return false;
+        });
+        return builder.toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+        this._forEachUntil(item -> {
+            builder.add(item);
+            return false;
+        });
+        return builder.toArray();
+    }
+
+    @Override
+    public List<TResult> _toList() {
+        List<TResult> list = new ArrayList<>();
+        this._forEachUntil(item -> {
+            list.add(item);
+            return false;
+        });
+        return list;
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        // In case someone uses Count() to force evaluation of
+        // the selector, run it provided `onlyIfCheap` is false.
+        if (onlyIfCheap)
+            return -1;
+
+        int[] count = {0};
+        this._forEachUntil(item -> {
+            count[0] = Math.addExact(count[0], 1);
+            return false;
+        });
+        return count[0];
+    }
+}
@@ -12,6 +12,7 @@ import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -22,34 +23,20 @@ import java.util.List;
 @DebuggerTypeProxy(GroupingDebugView.class)
 final class Grouping<TKey, TElement> implements IGrouping<TKey, TElement>, IArray<TElement> {
     final TKey key;
-    final int hashCode;
+    // The elements of every grouping of a lookup share one array, this grouping owns the range [start, start + count).
     Object[] elements;
+    int start;
     int count;
-    Grouping<TKey, TElement> hashNext;
-    Grouping<TKey, TElement> next;
     boolean fetched;
 
-    Grouping(TKey key, int hashCode) {
+    Grouping(TKey key) {
         this.key = key;
-        this.hashCode = hashCode;
-        this.elements = new Object[1];
-    }
-
-    void add(TElement element) {
-        if (this.elements.length == this.count)
-            this.elements = ArrayUtils.resize(this.elements, Math.multiplyExact(this.count, 2));
-        this.elements[this.count] = element;
-        this.count++;
-    }
-
-    public void trim() {
-        if (this.elements.length != this.count)
-            this.elements = ArrayUtils.resize(this.elements, this.count);
+        this.elements = ArrayUtils.empty();
     }
 
     @Override
     public IEnumerator<TElement> enumerator() {
-        return new ArrayEnumerator<>(this.elements, 0, this.count);
+        return new ArrayEnumerator<>(this.elements, this.start, this.count);
     }
 
     @Override
@@ -62,39 +49,52 @@ final class Grouping<TKey, TElement> implements IGrouping<TKey, TElement>, IArra
         return this.elements;
     }
 
+    @Override
+    public int _getStartIndex() {
+        return this.start;
+    }
+
     @Override
     public TElement get(int index) {
         if (index < 0 || index >= this.count)
             ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.index);
         //noinspection unchecked
-        return (TElement) this.elements[index];
+        return (TElement) this.elements[this.start + index];
     }
 
     @Override
     public int _indexOf(TElement item) {
-        return ArrayUtils.indexOf(this.elements, item, 0, this.count);
+        int index = ArrayUtils.indexOf(this.elements, item, this.start, this.count);
+        return index == -1 ? -1 : index - this.start;
     }
 
     @Override
     public int _lastIndexOf(TElement item) {
-        return ArrayUtils.lastIndexOf(this.elements, item, this.count - 1, this.count);
+        if (this.count == 0)
+            return -1;
+        int index = ArrayUtils.lastIndexOf(this.elements, item, this.start + this.count - 1, this.count);
+        return index == -1 ? -1 : index - this.start;
     }
 
     @Override
     public int _findIndex(Predicate1<TElement> match) {
         //noinspection unchecked
-        return ArrayUtils.findIndex(this.elements, 0, this.count, (Predicate1<Object>) match);
+        int index = ArrayUtils.findIndex(this.elements, this.start, this.count, (Predicate1<Object>) match);
+        return index == -1 ? -1 : index - this.start;
     }
 
     @Override
     public int _findLastIndex(Predicate1<TElement> match) {
+        if (this.count == 0)
+            return -1;
         //noinspection unchecked
-        return ArrayUtils.findLastIndex(this.elements, this.count - 1, this.count, (Predicate1<Object>) match);
+        int index = ArrayUtils.findLastIndex(this.elements, this.start + this.count - 1, this.count, (Predicate1<Object>) match);
+        return index == -1 ? -1 : index - this.start;
     }
 
     @Override
     public Collection<TElement> getCollection() {
-        return ArrayUtils.toCollection(this.elements, 0, this.count);
+        return ArrayUtils.toCollection(this.elements, this.start, this.count);
     }
 
     @Override
@@ -104,26 +104,26 @@ final class Grouping<TKey, TElement> implements IGrouping<TKey, TElement>, IArra
 
     @Override
     public boolean _contains(TElement item) {
-        return ArrayUtils.contains(this.elements, item, 0, this.count);
+        return ArrayUtils.contains(this.elements, item, this.start, this.count);
     }
 
     @Override
     public void _copyTo(Object[] array, int arrayIndex) {
-        System.arraycopy(this.elements, 0, array, arrayIndex, this.count);
+        System.arraycopy(this.elements, this.start, array, arrayIndex, this.count);
     }
 
     @Override
     public TElement[] _toArray(Class<TElement> clazz) {
-        return ArrayUtils.toArray(this.elements, clazz, 0, this.count);
+        return ArrayUtils.toArray(this.elements, clazz, this.start, this.count);
     }
 
     @Override
     public Object[] _toArray() {
-        return ArrayUtils.resize(this.elements, this.count);
+        return Arrays.copyOfRange(this.elements, this.start, this.start + this.count);
     }
 
     @Override
     public List<TElement> _toList() {
-        return ArrayUtils.toList(this.elements, 0, this.count);
+        return ArrayUtils.toList(this.elements, this.start, this.count);
     }
 }
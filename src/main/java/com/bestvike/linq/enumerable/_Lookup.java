@@ -1,6 +1,5 @@
 package com.bestvike.linq.enumerable;
 
-import com.bestvike.collections.generic.Array;
 import com.bestvike.collections.generic.EqualityComparer;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
@@ -13,8 +12,10 @@ import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.debug.DebuggerTypeProxy;
 import com.bestvike.linq.debug.LookupDebugView;
 import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.out;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -23,29 +24,49 @@ import java.util.List;
 @DebuggerDisplay("Count = {getCount()}")
 @DebuggerTypeProxy(LookupDebugView.class)
 final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListProvider<IGrouping<TKey, TElement>> {
+    private static final int DEFAULT_CAPACITY = 8;
+
     private final IEqualityComparer<TKey> comparer;
+    // Open addressing table, each slot holds group index + 1, 0 means empty.
+    private int[] buckets;
+    private int[] hashCodes;
+    // Groupings in insertion order.
     private Grouping<TKey, TElement>[] groupings;
-    private Grouping<TKey, TElement> lastGrouping;
-    private Grouping<TKey, TElement> nullKeyGrouping;
+    // Index of the grouping that collects null keys of a full join, it is never added to buckets.
+    private int nullKeyIndex = -1;
     private int count;
+    // First pass, elements and their group index in source order.
+    private Object[] pending;
+    private int[] pendingGroups;
+    private int pendingCount;
 
-    private Lookup(IEqualityComparer<TKey> comparer) {
+    private Lookup(IEqualityComparer<TKey> comparer, int capacity) {
         this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+        this.buckets = new int[DEFAULT_CAPACITY << 1];
+        this.hashCodes = new int[DEFAULT_CAPACITY];
         //noinspection unchecked
-        this.groupings = new Grouping[7];
+        this.groupings = new Grouping[DEFAULT_CAPACITY];
+        this.pending = capacity > 0 ? new Object[capacity] : ArrayUtils.empty();
+        this.pendingGroups = new int[capacity > 0 ? capacity : 0];
+    }
+
+    private static <TSource, TKey, TElement> Lookup<TKey, TElement> newLookup(IEnumerable<TSource> source, IEqualityComparer<TKey> comparer) {
+        out<Integer> countRef = out.init();
+        return new Lookup<>(comparer, EnumerableHelpers.tryGetCount(source, countRef) ? countRef.value : 0);
     }
 
     static <TKey, TElement> Lookup<TKey, TElement> create(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
         assert source != null;
         assert keySelector != null;
 
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Lookup<TKey, TElement> lookup = newLookup(source, comparer);
         try (IEnumerator<TElement> e = source.enumerator()) {
             while (e.moveNext()) {
                 TElement item = e.current();
-                lookup.getGrouping(keySelector.apply(item), true).add(item);
+                lookup.add(lookup.getGroupingIndex(keySelector.apply(item), true), item);
             }
         }
+        lookup.complete();
         return lookup;
     }
 
@@ -54,41 +75,121 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
         assert keySelector != null;
         assert elementSelector != null;
 
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Lookup<TKey, TElement> lookup = newLookup(source, comparer);
         try (IEnumerator<TSource> e = source.enumerator()) {
             while (e.moveNext()) {
                 TSource item = e.current();
-                lookup.getGrouping(keySelector.apply(item), true).add(elementSelector.apply(item));
+                lookup.add(lookup.getGroupingIndex(keySelector.apply(item), true), elementSelector.apply(item));
             }
         }
+        lookup.complete();
         return lookup;
     }
 
     static <TKey, TElement> Lookup<TKey, TElement> createForJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Lookup<TKey, TElement> lookup = newLookup(source, comparer);
         try (IEnumerator<TElement> e = source.enumerator()) {
             while (e.moveNext()) {
                 TElement item = e.current();
                 TKey key = keySelector.apply(item);
                 if (key != null)
-                    lookup.getGrouping(key, true).add(item);
+                    lookup.add(lookup.getGroupingIndex(key, true), item);
+            }
+        }
+        lookup.complete();
+        return lookup;
+    }
+
+    // Groupings are seeded with the specified keys (nulls are skipped) and each element is probed once, so the lookup grows with the matches rather than with the source.
+    static <TKey, TElement> Lookup<TKey, TElement> createForJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer, Object[] keys) {
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer, 0);
+        for (Object key : keys) {
+            if (key != null)
+                //noinspection unchecked
+                lookup.getGroupingIndex((TKey) key, true);
+        }
+        try (IEnumerator<TElement> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TElement item = e.current();
+                TKey key = keySelector.apply(item);
+                if (key == null)
+                    continue;
+                int index = lookup.getGroupingIndex(key, false);
+                if (index != -1)
+                    lookup.add(index, item);
             }
         }
+        lookup.complete();
+        lookup.removeEmptyGroupings();
         return lookup;
     }
 
     static <TKey, TElement> Lookup<TKey, TElement> createForFullJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Lookup<TKey, TElement> lookup = newLookup(source, comparer);
         try (IEnumerator<TElement> e = source.enumerator()) {
             while (e.moveNext()) {
                 TElement item = e.current();
                 TKey key = keySelector.apply(item);
                 if (key == null)
-                    lookup.getNullKeyGrouping().add(item);
+                    lookup.add(lookup.getNullKeyGroupingIndex(), item);
                 else
-                    lookup.getGrouping(key, true).add(item);
+                    lookup.add(lookup.getGroupingIndex(key, true), item);
+            }
+        }
+        lookup.complete();
+        return lookup;
+    }
+
+    // Merges lookups built over consecutive parts of a source, groupings keep the order in which their keys are first seen.
+    static <TKey, TElement> Lookup<TKey, TElement> merge(List<Lookup<TKey, TElement>> partials, IEqualityComparer<TKey> comparer) {
+        assert partials != null && partials.size() > 0;
+
+        if (partials.size() == 1)
+            return partials.get(0);
+
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer, 0);
+        lookup.pending = null;
+        lookup.pendingGroups = null;
+        int[][] groupIndexes = new int[partials.size()][];
+        int total = 0;
+        for (int p = 0; p < groupIndexes.length; p++) {
+            Lookup<TKey, TElement> partial = partials.get(p);
+            int[] indexes = new int[partial.count];
+            for (int i = 0; i < partial.count; i++) {
+                Grouping<TKey, TElement> g = partial.groupings[i];
+                indexes[i] = i == partial.nullKeyIndex ? lookup.getNullKeyGroupingIndex() : lookup.getGroupingIndex(g.key, partial.hashCodes[i], true);
+                total = Math.addExact(total, g.count);
             }
+            groupIndexes[p] = indexes;
+        }
+
+        // every merged grouping becomes a contiguous range of one shared array, partial ranges are copied in partial order
+        int[] offsets = new int[lookup.count];
+        for (int p = 0; p < groupIndexes.length; p++) {
+            Lookup<TKey, TElement> partial = partials.get(p);
+            for (int i = 0; i < partial.count; i++)
+                offsets[groupIndexes[p][i]] += partial.groupings[i].count;
         }
+        int start = 0;
+        for (int i = 0; i < lookup.count; i++) {
+            Grouping<TKey, TElement> g = lookup.groupings[i];
+            g.start = start;
+            g.count = offsets[i];
+            offsets[i] = start;
+            start += g.count;
+        }
+        Object[] arena = total == 0 ? ArrayUtils.empty() : new Object[total];
+        for (int p = 0; p < groupIndexes.length; p++) {
+            Lookup<TKey, TElement> partial = partials.get(p);
+            for (int i = 0; i < partial.count; i++) {
+                Grouping<TKey, TElement> g = partial.groupings[i];
+                int index = groupIndexes[p][i];
+                System.arraycopy(g.elements, g.start, arena, offsets[index], g.count);
+                offsets[index] += g.count;
+            }
+        }
+        for (int i = 0; i < lookup.count; i++)
+            lookup.groupings[i].elements = arena;
         return lookup;
     }
 
@@ -99,13 +200,13 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
 
     @Override
     public IEnumerable<TElement> get(TKey key) {
-        Grouping<TKey, TElement> grouping = this.getGrouping(key, false);
+        Grouping<TKey, TElement> grouping = this.getGrouping(key);
         return grouping == null ? EmptyPartition.instance() : grouping;
     }
 
     @Override
     public boolean containsKey(TKey key) {
-        return this.getGrouping(key, false) != null;
+        return this.getGrouping(key) != null;
     }
 
     @Override
@@ -116,92 +217,49 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
     @Override
     public IGrouping<TKey, TElement>[] _toArray(Class<IGrouping<TKey, TElement>> clazz) {
         IGrouping<TKey, TElement>[] array = ArrayUtils.newInstance(clazz, this.count);
-        int index = 0;
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                array[index] = g;
-                ++index;
-            } while (g != this.lastGrouping);
-        }
-
+        System.arraycopy(this.groupings, 0, array, 0, this.count);
         return array;
     }
 
     public <TResult> TResult[] _toArray(Class<TResult> clazz, Func2<TKey, IEnumerable<TElement>, TResult> resultSelector) {
         TResult[] array = ArrayUtils.newInstance(clazz, this.count);
-        int index = 0;
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                g.trim();
-                array[index] = resultSelector.apply(g.key, new Array<>(g.elements));
-                ++index;
-            } while (g != this.lastGrouping);
+        for (int i = 0; i < this.count; i++) {
+            Grouping<TKey, TElement> g = this.groupings[i];
+            array[i] = resultSelector.apply(g.key, g);
         }
-
         return array;
     }
 
     @Override
     public Object[] _toArray() {
         Object[] array = new Object[this.count];
-        int index = 0;
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                array[index] = g;
-                ++index;
-            } while (g != this.lastGrouping);
-        }
-
+        System.arraycopy(this.groupings, 0, array, 0, this.count);
         return array;
     }
 
     public <TResult> Object[] _toArray(Func2<TKey, IEnumerable<TElement>, TResult> resultSelector) {
         Object[] array = new Object[this.count];
-        int index = 0;
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                g.trim();
-                array[index] = resultSelector.apply(g.key, new Array<>(g.elements));
-                ++index;
-            } while (g != this.lastGrouping);
+        for (int i = 0; i < this.count; i++) {
+            Grouping<TKey, TElement> g = this.groupings[i];
+            array[i] = resultSelector.apply(g.key, g);
         }
-
         return array;
     }
 
     @Override
     public List<IGrouping<TKey, TElement>> _toList() {
         List<IGrouping<TKey, TElement>> list = new ArrayList<>(this.count);
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                list.add(g);
-            } while (g != this.lastGrouping);
-        }
-
+        for (int i = 0; i < this.count; i++)
+            list.add(this.groupings[i]);
         return list;
     }
 
     public <TResult> List<TResult> _toList(Func2<TKey, IEnumerable<TElement>, TResult> resultSelector) {
         List<TResult> list = new ArrayList<>(this.count);
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                g.trim();
-                list.add(resultSelector.apply(g.key, new Array<>(g.elements)));
-            } while (g != this.lastGrouping);
+        for (int i = 0; i < this.count; i++) {
+            Grouping<TKey, TElement> g = this.groupings[i];
+            list.add(resultSelector.apply(g.key, g));
         }
-
         return list;
     }
 
@@ -216,59 +274,137 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
 
     private int internalGetHashCode(TKey key) {
         // Handle comparer implementations that throw when passed null
-        return key == null ? 0 : this.comparer.hashCode(key) & 0x7FFFFFFF;
-    }
-
-    private Grouping<TKey, TElement> getGrouping(TKey key, boolean create) {
-        int hashCode = this.internalGetHashCode(key);
-        for (Grouping<TKey, TElement> g = this.groupings[hashCode % this.groupings.length]; g != null; g = g.hashNext)
-            if (g.hashCode == hashCode && this.comparer.equals(g.key, key) && g != this.nullKeyGrouping)
-                return g;
-        return create ? this.createGrouping(key, hashCode) : null;
-    }
-
-    private Grouping<TKey, TElement> createGrouping(TKey key, int hashCode) {
-        if (this.count == this.groupings.length)
-            this.resize();
-        int index = hashCode % this.groupings.length;
-        Grouping<TKey, TElement> g = new Grouping<>(key, hashCode);
-        g.hashNext = this.groupings[index];
-        this.groupings[index] = g;
-        if (this.lastGrouping == null) {
-            g.next = g;
-        } else {
-            g.next = this.lastGrouping.next;
-            this.lastGrouping.next = g;
+        if (key == null)
+            return 0;
+        int h = this.comparer.hashCode(key);
+        return (h ^ (h >>> 16)) & 0x7FFFFFFF;
+    }
+
+    private Grouping<TKey, TElement> getGrouping(TKey key) {
+        int index = this.getGroupingIndex(key, false);
+        return index == -1 ? null : this.groupings[index];
+    }
+
+    private int getGroupingIndex(TKey key, boolean create) {
+        return this.getGroupingIndex(key, this.internalGetHashCode(key), create);
+    }
+
+    private int getGroupingIndex(TKey key, int hashCode, boolean create) {
+        int mask = this.buckets.length - 1;
+        for (int bucket = hashCode & mask; ; bucket = (bucket + 1) & mask) {
+            int index = this.buckets[bucket] - 1;
+            if (index == -1) {
+                if (!create)
+                    return -1;
+                index = this.createGrouping(key, hashCode);
+                this.buckets[bucket] = index + 1;
+                this.ensureBuckets();
+                return index;
+            }
+            if (this.hashCodes[index] == hashCode && this.comparer.equals(this.groupings[index].key, key))
+                return index;
+        }
+    }
+
+    private int getNullKeyGroupingIndex() {
+        if (this.nullKeyIndex == -1) {
+            this.nullKeyIndex = this.createGrouping(null, this.internalGetHashCode(null));
+            this.ensureBuckets();
+        }
+        return this.nullKeyIndex;
+    }
+
+    private int createGrouping(TKey key, int hashCode) {
+        if (this.count == this.groupings.length) {
+            int newSize = Math.multiplyExact(this.count, 2);
+            this.groupings = Arrays.copyOf(this.groupings, newSize);
+            this.hashCodes = Arrays.copyOf(this.hashCodes, newSize);
         }
-        this.lastGrouping = g;
+        int index = this.count;
+        this.groupings[index] = new Grouping<>(key);
+        this.hashCodes[index] = hashCode;
         this.count++;
-        return g;
+        return index;
     }
 
-    private void resize() {
-        int newSize = Math.addExact(Math.multiplyExact(this.count, 2), 1);
-        //noinspection unchecked
-        Grouping<TKey, TElement>[] newGroupings = new Grouping[newSize];
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        do {
-            g = g.next;
-            int index = g.hashCode % newSize;
-            g.hashNext = newGroupings[index];
-            newGroupings[index] = g;
-        } while (g != this.lastGrouping);
-        this.groupings = newGroupings;
+    private void ensureBuckets() {
+        // keep the table at most half full so probe sequences stay short
+        if (this.count << 1 <= this.buckets.length)
+            return;
+        this.rehash(Math.multiplyExact(this.buckets.length, 2));
+    }
+
+    private void rehash(int length) {
+        int[] newBuckets = new int[length];
+        int mask = newBuckets.length - 1;
+        for (int i = 0; i < this.count; i++) {
+            if (i == this.nullKeyIndex)
+                continue;
+            int bucket = this.hashCodes[i] & mask;
+            while (newBuckets[bucket] != 0)
+                bucket = (bucket + 1) & mask;
+            newBuckets[bucket] = i + 1;
+        }
+        this.buckets = newBuckets;
+    }
+
+    // Drops seeded groupings that no element was added to, a missing key and an empty grouping must look the same to a join.
+    private void removeEmptyGroupings() {
+        assert this.nullKeyIndex == -1;
+        int count = 0;
+        for (int i = 0; i < this.count; i++) {
+            if (this.groupings[i].count == 0)
+                continue;
+            this.groupings[count] = this.groupings[i];
+            this.hashCodes[count] = this.hashCodes[i];
+            count++;
+        }
+        if (count == this.count)
+            return;
+        Arrays.fill(this.groupings, count, this.count, null);
+        this.count = count;
+        this.rehash(this.buckets.length);
     }
 
-    private Grouping<TKey, TElement> getNullKeyGrouping() {
-        if (this.nullKeyGrouping == null)
-            this.nullKeyGrouping = this.createGrouping(null, this.internalGetHashCode(null));
-        return this.nullKeyGrouping;
+    private void add(int groupIndex, TElement element) {
+        if (this.pendingCount == this.pending.length) {
+            int newSize = this.pendingCount == 0 ? DEFAULT_CAPACITY : Math.multiplyExact(this.pendingCount, 2);
+            this.pending = ArrayUtils.resize(this.pending, newSize);
+            this.pendingGroups = Arrays.copyOf(this.pendingGroups, newSize);
+        }
+        this.pending[this.pendingCount] = element;
+        this.pendingGroups[this.pendingCount] = groupIndex;
+        this.pendingCount++;
+    }
+
+    private void complete() {
+        // second pass, every grouping becomes a contiguous range of one shared array
+        int[] offsets = new int[this.count];
+        for (int i = 0; i < this.pendingCount; i++)
+            offsets[this.pendingGroups[i]]++;
+        int start = 0;
+        for (int i = 0; i < this.count; i++) {
+            int groupCount = offsets[i];
+            offsets[i] = start;
+            start += groupCount;
+        }
+        Object[] arena = this.pendingCount == 0 ? ArrayUtils.empty() : new Object[this.pendingCount];
+        for (int i = 0; i < this.pendingCount; i++)
+            arena[offsets[this.pendingGroups[i]]++] = this.pending[i];
+        for (int i = 0; i < this.count; i++) {
+            Grouping<TKey, TElement> g = this.groupings[i];
+            g.elements = arena;
+            g.count = offsets[i] - (i == 0 ? 0 : offsets[i - 1]);
+            g.start = offsets[i] - g.count;
+        }
+        this.pending = null;
+        this.pendingGroups = null;
     }
 
     public Grouping<TKey, TElement> fetchGrouping(TKey key) {
         if (key == null)
             return null;
-        Grouping<TKey, TElement> g = this.getGrouping(key, false);
+        Grouping<TKey, TElement> g = this.getGrouping(key);
         if (g != null)
             g.fetched = true;
         return g;
@@ -284,47 +420,30 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
     }
 
     private final class LookupEnumerator extends AbstractEnumerator<IGrouping<TKey, TElement>> {
-        private Grouping<TKey, TElement> g;
+        private int index;
 
         @Override
         public boolean moveNext() {
-            do {
-                switch (this.state) {
-                    case 0:
-                        this.g = Lookup.this.lastGrouping;
-                        if (this.g == null) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 2;
-                        break;
-                    case 1:
-                        if (this.g == Lookup.this.lastGrouping) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 2;
-                    case 2:
-                        this.g = this.g.next;
-                        this.current = this.g;
-                        this.state = 1;
+            switch (this.state) {
+                case 0:
+                    this.index = -1;
+                    this.state = 1;
+                case 1:
+                    if (++this.index < Lookup.this.count) {
+                        this.current = Lookup.this.groupings[this.index];
                         return true;
-                    default:
-                        return false;
-                }
-            } while (true);
-        }
-
-        @Override
-        public void close() {
-            this.g = null;
-            super.close();
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
         }
     }
 
     private final class ApplyResultSelector<TResult> extends AbstractIterator<TResult> {
         private final Func2<TKey, IEnumerable<TElement>, TResult> resultSelector;
-        private Grouping<TKey, TElement> g;
+        private int index;
 
         private ApplyResultSelector(Func2<TKey, IEnumerable<TElement>, TResult> resultSelector) {
             this.resultSelector = resultSelector;
@@ -337,79 +456,46 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
 
         @Override
         public boolean moveNext() {
-            do {
-                switch (this.state) {
-                    case 1:
-                        this.g = Lookup.this.lastGrouping;
-                        if (this.g == null) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 3;
-                        break;
-                    case 2:
-                        if (this.g == Lookup.this.lastGrouping) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 3;
-                    case 3:
-                        this.g = this.g.next;
-                        this.g.trim();
-                        this.current = this.resultSelector.apply(this.g.key, new Array<>(this.g.elements));
-                        this.state = 2;
+            switch (this.state) {
+                case 1:
+                    this.index = -1;
+                    this.state = 2;
+                case 2:
+                    if (++this.index < Lookup.this.count) {
+                        Grouping<TKey, TElement> g = Lookup.this.groupings[this.index];
+                        this.current = this.resultSelector.apply(g.key, g);
                         return true;
-                    default:
-                        return false;
-                }
-            } while (true);
-        }
-
-        @Override
-        public void close() {
-            this.g = null;
-            super.close();
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
         }
     }
 
     private final class UnfetchedLookupEnumerator extends AbstractEnumerator<Grouping<TKey, TElement>> {
-        private Grouping<TKey, TElement> g;
+        private int index;
 
         @Override
         public boolean moveNext() {
-            do {
-                switch (this.state) {
-                    case 0:
-                        this.g = Lookup.this.lastGrouping;
-                        if (this.g == null) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 2;
-                        break;
-                    case 1:
-                        if (this.g == Lookup.this.lastGrouping) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 2;
-                    case 2:
-                        this.state = 1;
-                        this.g = this.g.next;
-                        if (this.g.fetched)
-                            break;
-                        this.current = this.g;
+            switch (this.state) {
+                case 0:
+                    this.index = -1;
+                    this.state = 1;
+                case 1:
+                    while (++this.index < Lookup.this.count) {
+                        Grouping<TKey, TElement> g = Lookup.this.groupings[this.index];
+                        if (g.fetched)
+                            continue;
+                        this.current = g;
                         return true;
-                    default:
-                        return false;
-                }
-            } while (true);
-        }
-
-        @Override
-        public void close() {
-            this.g = null;
-            super.close();
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
         }
     }
 }
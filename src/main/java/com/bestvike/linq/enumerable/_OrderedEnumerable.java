@@ -2,43 +2,124 @@ package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.Comparer;
 import com.bestvike.collections.generic.ICollection;
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IElementCodec;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.IOrderedEnumerable;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayPool;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.ListUtils;
 import com.bestvike.out;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Created by 许崇雷 on 2018-05-07.
  */
 abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable<TElement>, IPartition<TElement> {
+    private static final int TOP_K_MAX_COUNT = 1 << 16;
+    private static final int TOP_K_MIN_CAPACITY = 32;
+    private static final int TOP_K_MIN_RATIO_SHIFT = 3;
+    private static final int SPILL_INITIAL_CAPACITY = 1024;
     IEnumerable<TElement> source;
-
-    private Integer[] sortedMap(Buffer<TElement> buffer) {
-        return this.getEnumerableSorter().sort(buffer.items, buffer.count);
+    boolean parallel;
+    IElementCodec<TElement> codec;
+    int maxElementsInMemory;
+
+    private int[] sortedMap(Buffer<TElement> buffer) {
+        AbstractEnumerableSorter<TElement> sorter = this.getEnumerableSorter();
+        return this.parallel && AbstractEnumerableSorter.shouldSortInParallel(buffer.count)
+                ? sorter.parallelSort(buffer.items, buffer.count)
+                : sorter.sort(buffer.items, buffer.count);
     }
 
-    private Integer[] sortedMap(Buffer<TElement> buffer, int minIdx, int maxIdx) {
+    private int[] sortedMap(Buffer<TElement> buffer, int minIdx, int maxIdx) {
         return this.getEnumerableSorter().sort(buffer.items, buffer.count, minIdx, maxIdx);
     }
 
+    public abstract AbstractOrderedEnumerable<TElement> clone();
+
+    // Buffers the elements needed to produce the sorted range ending at maxIdx.
+    // When only the first few elements of a large or unknown-size source are requested, the returned buffer holds just the
+    // maxIdx + 1 smallest elements in their original order, so sorting it yields the same (stable) result with O(maxIdx) memory.
+    private Buffer<TElement> buffer(int maxIdx) {
+        if (maxIdx >= TOP_K_MAX_COUNT)
+            return new Buffer<>(this.source);
+        int count = this._getCount(true);
+        if (count != -1 && maxIdx >= count >> TOP_K_MIN_RATIO_SHIFT)
+            return new Buffer<>(this.source);
+
+        int k = maxIdx + 1;
+        int capacity = Math.max(k << 2, TOP_K_MIN_CAPACITY);
+        AbstractEnumerableSorter<TElement> sorter = null;
+        boolean[] keep = null;
+        Object[] items = new Object[Math.min(capacity, TOP_K_MIN_CAPACITY)];
+        count = 0;
+        try (IEnumerator<TElement> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == items.length) {
+                    if (count < capacity) {
+                        items = ArrayUtils.resize(items, Math.min(count << 1, capacity));
+                    } else {
+                        // Keep the k smallest elements in their original order and drop the rest.
+                        if (sorter == null) {
+                            sorter = this.getEnumerableSorter();
+                            keep = new boolean[capacity];
+                        }
+                        int[] map = sorter.sort(items, count, 0, maxIdx);
+                        for (int i = 0; i < k; i++)
+                            keep[map[i]] = true;
+                        int newCount = 0;
+                        for (int i = 0; i < count; i++) {
+                            if (keep[i]) {
+                                keep[i] = false;
+                                items[newCount++] = items[i];
+                            }
+                        }
+                        Arrays.fill(items, newCount, count, null);
+                        count = newCount;
+                    }
+                }
+                items[count++] = e.current();
+            }
+        }
+        return new Buffer<>(items, count);
+    }
+
+    // The sorted elements from minIdx to maxIdx merged from the spilled runs, every path of a spilling query goes through it so none loads the whole source.
+    private IEnumerable<TElement> spilled(int minIdx, int maxIdx) {
+        IEnumerable<TElement> sorted = SpillingOrderedEnumerableEnumerator::new;
+        IEnumerable<TElement> range = minIdx > 0 ? Skip.skip(sorted, minIdx) : sorted;
+        return maxIdx == Integer.MAX_VALUE ? range : Take.take(range, maxIdx - minIdx + 1);
+    }
+
     @Override
     public IEnumerator<TElement> enumerator() {
-        return new OrderedEnumerableEnumerator();
+        return this.codec == null ? new OrderedEnumerableEnumerator() : new SpillingOrderedEnumerableEnumerator();
     }
 
     public IEnumerator<TElement> enumerator(int minIdx, int maxIdx) {
-        return new OrderedEnumerableRangeEnumerator(minIdx, maxIdx);
+        return this.codec == null ? new OrderedEnumerableRangeEnumerator(minIdx, maxIdx) : this.spilled(minIdx, maxIdx).enumerator();
     }
 
     private AbstractEnumerableSorter<TElement> getEnumerableSorter() {
@@ -58,6 +139,47 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         return new OrderedEnumerable<>(this.source, keySelector, comparer, descending, this);
     }
 
+    @Override
+    public IOrderedEnumerable<TElement> parallel() {
+        if (this.parallel)
+            return this;
+
+        AbstractOrderedEnumerable<TElement> clone = this.clone();
+        clone.parallel = true;
+        clone.codec = this.codec;
+        clone.maxElementsInMemory = this.maxElementsInMemory;
+        return clone;
+    }
+
+    @Override
+    public IOrderedEnumerable<TElement> spillToDisk(IElementCodec<TElement> codec, int maxElementsInMemory) {
+        if (codec == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.codec);
+        if (maxElementsInMemory < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.maxElementsInMemory);
+
+        AbstractOrderedEnumerable<TElement> clone = this.clone();
+        clone.parallel = this.parallel;
+        clone.codec = codec;
+        clone.maxElementsInMemory = maxElementsInMemory;
+        return clone;
+    }
+
+    @Override
+    public IOrderedEnumerable<TElement> createOrderedEnumerableInt(IntFunc1<TElement> keySelector, boolean descending) {
+        return new IntOrderedEnumerable<>(this.source, keySelector, descending, this);
+    }
+
+    @Override
+    public IOrderedEnumerable<TElement> createOrderedEnumerableLong(LongFunc1<TElement> keySelector, boolean descending) {
+        return new LongOrderedEnumerable<>(this.source, keySelector, descending, this);
+    }
+
+    @Override
+    public IOrderedEnumerable<TElement> createOrderedEnumerableDouble(DoubleFunc1<TElement> keySelector, boolean descending) {
+        return new DoubleOrderedEnumerable<>(this.source, keySelector, descending, this);
+    }
+
     public TElement _tryGetFirst(Predicate1<TElement> predicate, out<Boolean> found) {
         AbstractCachingComparer<TElement> comparer = this.getComparer();
         try (IEnumerator<TElement> e = this.source.enumerator()) {
@@ -108,13 +230,16 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
 
     @Override
     public TElement[] _toArray(Class<TElement> clazz) {
+        if (this.codec != null)
+            return ToCollection.toArray(this.spilled(0, Integer.MAX_VALUE), clazz);
+
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
         if (count == 0)
             return buffer.toArray(clazz);
 
         TElement[] array = ArrayUtils.newInstance(clazz, count);
-        Integer[] map = this.sortedMap(buffer);
+        int[] map = this.sortedMap(buffer);
         for (int i = 0; i != array.length; i++)
             //noinspection unchecked
             array[i] = (TElement) buffer.items[map[i]];
@@ -123,13 +248,16 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
 
     @Override
     public Object[] _toArray() {
+        if (this.codec != null)
+            return ToCollection.toArray(this.spilled(0, Integer.MAX_VALUE));
+
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
         if (count == 0)
             return buffer.items;
 
         Object[] array = new Object[count];
-        Integer[] map = this.sortedMap(buffer);
+        int[] map = this.sortedMap(buffer);
         for (int i = 0; i != array.length; i++)
             array[i] = buffer.items[map[i]];
         return array;
@@ -137,11 +265,14 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
 
     @Override
     public List<TElement> _toList() {
+        if (this.codec != null)
+            return ToCollection.toList(this.spilled(0, Integer.MAX_VALUE));
+
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
         List<TElement> list = new ArrayList<>(count);
         if (count > 0) {
-            Integer[] map = this.sortedMap(buffer);
+            int[] map = this.sortedMap(buffer);
             for (int i = 0; i != count; i++)
                 //noinspection unchecked
                 list.add((TElement) buffer.items[map[i]]);
@@ -159,7 +290,10 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public TElement[] _toArray(Class<TElement> clazz, int minIdx, int maxIdx) {
-        Buffer<TElement> buffer = new Buffer<>(this.source);
+        if (this.codec != null)
+            return ToCollection.toArray(this.spilled(minIdx, maxIdx), clazz);
+
+        Buffer<TElement> buffer = this.buffer(maxIdx);
         int count = buffer.count;
         if (count <= minIdx)
             return ArrayUtils.empty(clazz);
@@ -170,7 +304,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ArrayUtils.singleton(clazz, this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         TElement[] array = ArrayUtils.newInstance(clazz, maxIdx - minIdx + 1);
         int idx = 0;
         while (minIdx <= maxIdx) {
@@ -184,7 +318,10 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public Object[] _toArray(int minIdx, int maxIdx) {
-        Buffer<TElement> buffer = new Buffer<>(this.source);
+        if (this.codec != null)
+            return ToCollection.toArray(this.spilled(minIdx, maxIdx));
+
+        Buffer<TElement> buffer = this.buffer(maxIdx);
         int count = buffer.count;
         if (count <= minIdx)
             return ArrayUtils.empty();
@@ -195,7 +332,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ArrayUtils.singleton(this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         Object[] array = new Object[maxIdx - minIdx + 1];
         int idx = 0;
         while (minIdx <= maxIdx) {
@@ -208,7 +345,10 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public List<TElement> _toList(int minIdx, int maxIdx) {
-        Buffer<TElement> buffer = new Buffer<>(this.source);
+        if (this.codec != null)
+            return ToCollection.toList(this.spilled(minIdx, maxIdx));
+
+        Buffer<TElement> buffer = this.buffer(maxIdx);
         int count = buffer.count;
         if (count <= minIdx)
             return ListUtils.empty();
@@ -219,7 +359,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ListUtils.singleton(this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         List<TElement> list = new ArrayList<>(maxIdx - minIdx + 1);
         while (minIdx <= maxIdx) {
             //noinspection unchecked
@@ -256,8 +396,15 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (index == 0)
             return this._tryGetFirst(found);
 
-        if (index > 0) {
-            Buffer<TElement> buffer = new Buffer<>(this.source);
+        if (index > 0 && this.codec != null) {
+            try (IEnumerator<TElement> e = this.spilled(index, index).enumerator()) {
+                if (e.moveNext()) {
+                    found.value = true;
+                    return e.current();
+                }
+            }
+        } else if (index > 0) {
+            Buffer<TElement> buffer = this.buffer(index);
             int count = buffer.count;
             if (index < count) {
                 found.value = true;
@@ -314,7 +461,19 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public TElement _tryGetLast(int minIdx, int maxIdx, out<Boolean> found) {
-        Buffer<TElement> buffer = new Buffer<>(this.source);
+        if (this.codec != null) {
+            found.value = false;
+            TElement value = null;
+            try (IEnumerator<TElement> e = this.spilled(minIdx, maxIdx).enumerator()) {
+                while (e.moveNext()) {
+                    found.value = true;
+                    value = e.current();
+                }
+            }
+            return value;
+        }
+
+        Buffer<TElement> buffer = this.buffer(maxIdx);
         int count = buffer.count;
         if (minIdx >= count) {
             found.value = false;
@@ -345,7 +504,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
 
     private class OrderedEnumerableEnumerator extends AbstractEnumerator<TElement> {
         private Buffer<TElement> buffer;
-        private Integer[] map;
+        private int[] map;
         private int index;
 
         @Override
@@ -386,7 +545,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         private int minIdx;
         private int maxIdx;
         private Buffer<TElement> buffer;
-        private Integer[] map;
+        private int[] map;
 
         private OrderedEnumerableRangeEnumerator(int minIdx, int maxIdx) {
             this.minIdx = minIdx;
@@ -397,7 +556,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         public boolean moveNext() {
             switch (this.state) {
                 case 0:
-                    this.buffer = new Buffer<>(AbstractOrderedEnumerable.this.source);
+                    this.buffer = AbstractOrderedEnumerable.this.buffer(this.maxIdx);
                     int count = this.buffer.count;
                     if (count <= this.minIdx) {
                         this.close();
@@ -437,6 +596,201 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             super.close();
         }
     }
+
+    // Sorts runs of at most maxElementsInMemory elements in memory, writes them to temporary files through the codec
+    // and merges the runs lazily. Ties between runs are broken by run order, so the result is stable.
+    private class SpillingOrderedEnumerableEnumerator extends AbstractEnumerator<TElement> {
+        private Buffer<TElement> buffer;
+        private int[] map;
+        private int index;
+        private List<File> files;
+        private DataInputStream[] readers;
+        private int[] remaining;
+        private Object[] heads;
+        private int[] heap;
+        private int heapSize;
+        private AbstractEnumerableSorter<TElement> sorter;
+
+        @Override
+        public boolean moveNext() {
+            switch (this.state) {
+                case 0:
+                    this.spill();
+                    if (this.files == null) {
+                        if (this.buffer.count <= 0) {
+                            this.close();
+                            return false;
+                        }
+                        this.map = AbstractOrderedEnumerable.this.getEnumerableSorter().sort(this.buffer.items, this.buffer.count);
+                        this.index = -1;
+                        this.state = 1;
+                    } else {
+                        this.openRuns();
+                        this.state = 2;
+                        return this.moveNext();
+                    }
+                case 1:
+                    this.index++;
+                    if (this.index < this.buffer.count) {
+                        //noinspection unchecked
+                        this.current = (TElement) this.buffer.items[this.map[this.index]];
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                case 2:
+                    if (this.heapSize > 0) {
+                        int run = this.heap[0];
+                        //noinspection unchecked
+                        this.current = (TElement) this.heads[run];
+                        if (this.readHead(run))
+                            this.siftDown(0);
+                        else if (--this.heapSize > 0) {
+                            this.heap[0] = this.heap[this.heapSize];
+                            this.siftDown(0);
+                        }
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
+        }
+
+        private void spill() {
+            IElementCodec<TElement> codec = AbstractOrderedEnumerable.this.codec;
+            int maxElementsInMemory = AbstractOrderedEnumerable.this.maxElementsInMemory;
+            List<Integer> lengths = new ArrayList<>();
+            Object[] items = new Object[Math.min(maxElementsInMemory, SPILL_INITIAL_CAPACITY)];
+            int count = 0;
+            try (IEnumerator<TElement> e = AbstractOrderedEnumerable.this.source.enumerator()) {
+                while (e.moveNext()) {
+                    if (count == items.length) {
+                        if (count < maxElementsInMemory) {
+                            items = ArrayUtils.resize(items, (int) Math.min((long) count << 1, maxElementsInMemory));
+                        } else {
+                            this.writeRun(codec, items, count);
+                            lengths.add(count);
+                            Arrays.fill(items, null);
+                            count = 0;
+                        }
+                    }
+                    items[count++] = e.current();
+                }
+            }
+            if (this.files == null) {
+                this.buffer = new Buffer<>(items, count);
+                return;
+            }
+            if (count > 0) {
+                this.writeRun(codec, items, count);
+                lengths.add(count);
+            }
+            this.remaining = new int[lengths.size()];
+            for (int i = 0; i < this.remaining.length; i++)
+                this.remaining[i] = lengths.get(i);
+        }
+
+        private void writeRun(IElementCodec<TElement> codec, Object[] items, int count) {
+            if (this.files == null)
+                this.files = new ArrayList<>();
+            int[] map = AbstractOrderedEnumerable.this.getEnumerableSorter().sort(items, count);
+            try {
+                File file = File.createTempFile("linq-sort-", ".run");
+                this.files.add(file);
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+                    for (int i = 0; i < count; i++)
+                        //noinspection unchecked
+                        codec.encode(output, (TElement) items[map[i]]);
+                }
+            } catch (IOException e) {
+                ThrowHelper.throwRuntimeException(e);
+            }
+        }
+
+        private void openRuns() {
+            int runs = this.files.size();
+            this.readers = new DataInputStream[runs];
+            this.heads = new Object[runs];
+            this.heap = new int[runs];
+            this.sorter = AbstractOrderedEnumerable.this.getEnumerableSorter();
+            this.sorter.allocateKeyChain(runs);
+            try {
+                for (int run = 0; run < runs; run++)
+                    this.readers[run] = new DataInputStream(new BufferedInputStream(new FileInputStream(this.files.get(run))));
+            } catch (IOException e) {
+                ThrowHelper.throwRuntimeException(e);
+            }
+            for (int run = 0; run < runs; run++) {
+                this.readHead(run);
+                this.heap[this.heapSize++] = run;
+            }
+            for (int i = (this.heapSize >> 1) - 1; i >= 0; i--)
+                this.siftDown(i);
+        }
+
+        // Reads the next element of the run into its head slot, returns false if the run is exhausted.
+        private boolean readHead(int run) {
+            if (this.remaining[run] == 0) {
+                this.heads[run] = null;
+                return false;
+            }
+            try {
+                this.heads[run] = AbstractOrderedEnumerable.this.codec.decode(this.readers[run]);
+            } catch (IOException e) {
+                ThrowHelper.throwRuntimeException(e);
+            }
+            this.remaining[run]--;
+            this.sorter.computeKeyChain(this.heads, run, run + 1);
+            return true;
+        }
+
+        private void siftDown(int i) {
+            int[] heap = this.heap;
+            int size = this.heapSize;
+            int run = heap[i];
+            while (true) {
+                int child = (i << 1) + 1;
+                if (child >= size)
+                    break;
+                if (child + 1 < size && this.sorter.compareKeys(heap[child + 1], heap[child]) < 0)
+                    child++;
+                if (this.sorter.compareKeys(run, heap[child]) <= 0)
+                    break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = run;
+        }
+
+        @Override
+        public void close() {
+            if (this.readers != null) {
+                for (DataInputStream reader : this.readers) {
+                    if (reader == null)
+                        continue;
+                    try {
+                        reader.close();
+                    } catch (IOException ignored) {
+                    }
+                }
+                this.readers = null;
+            }
+            if (this.files != null) {
+                for (File file : this.files)
+                    //noinspection ResultOfMethodCallIgnored
+                    file.delete();
+                this.files = null;
+            }
+            this.buffer = null;
+            this.map = null;
+            this.heads = null;
+            this.heap = null;
+            this.sorter = null;
+            super.close();
+        }
+    }
 }
 
 
@@ -454,11 +808,21 @@ final class OrderedEnumerable<TElement, TKey> extends AbstractOrderedEnumerable<
 
         this.source = source;
         this.parent = parent;
+        if (parent != null) {
+            this.parallel = parent.parallel;
+            this.codec = parent.codec;
+            this.maxElementsInMemory = parent.maxElementsInMemory;
+        }
         this.keySelector = keySelector;
         this.comparer = comparer == null ? Comparer.Default() : comparer;
         this.descending = descending;
     }
 
+    @Override
+    public AbstractOrderedEnumerable<TElement> clone() {
+        return new OrderedEnumerable<>(this.source, this.keySelector, this.comparer, this.descending, this.parent);
+    }
+
     @Override
     protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
         AbstractEnumerableSorter<TElement> sorter = new EnumerableSorter<>(this.keySelector, this.comparer, this.descending, next);
@@ -477,6 +841,151 @@ final class OrderedEnumerable<TElement, TKey> extends AbstractOrderedEnumerable<
 }
 
 
+final class IntOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final AbstractOrderedEnumerable<TElement> parent;
+    private final IntFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    IntOrderedEnumerable(IEnumerable<TElement> source, IntFunc1<TElement> keySelector, boolean descending, AbstractOrderedEnumerable<TElement> parent) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.parent = parent;
+        if (parent != null) {
+            this.parallel = parent.parallel;
+            this.codec = parent.codec;
+            this.maxElementsInMemory = parent.maxElementsInMemory;
+        }
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    public AbstractOrderedEnumerable<TElement> clone() {
+        return new IntOrderedEnumerable<>(this.source, this.keySelector, this.descending, this.parent);
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        AbstractEnumerableSorter<TElement> sorter = new IntEnumerableSorter<>(this.keySelector, this.descending, next);
+        if (this.parent != null)
+            sorter = this.parent.getEnumerableSorter(sorter);
+        return sorter;
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        Func1<TElement, Integer> keySelector = this.keySelector::apply;
+        AbstractCachingComparer<TElement> cmp = childComparer == null
+                ? new CachingComparer<>(keySelector, Integer::compare, this.descending)
+                : new CachingComparerWithChild<>(keySelector, Integer::compare, this.descending, childComparer);
+        return this.parent != null ? this.parent.getComparer(cmp) : cmp;
+    }
+}
+
+
+final class LongOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final AbstractOrderedEnumerable<TElement> parent;
+    private final LongFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    LongOrderedEnumerable(IEnumerable<TElement> source, LongFunc1<TElement> keySelector, boolean descending, AbstractOrderedEnumerable<TElement> parent) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.parent = parent;
+        if (parent != null) {
+            this.parallel = parent.parallel;
+            this.codec = parent.codec;
+            this.maxElementsInMemory = parent.maxElementsInMemory;
+        }
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    public AbstractOrderedEnumerable<TElement> clone() {
+        return new LongOrderedEnumerable<>(this.source, this.keySelector, this.descending, this.parent);
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        AbstractEnumerableSorter<TElement> sorter = new LongEnumerableSorter<>(this.keySelector, this.descending, next);
+        if (this.parent != null)
+            sorter = this.parent.getEnumerableSorter(sorter);
+        return sorter;
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        Func1<TElement, Long> keySelector = this.keySelector::apply;
+        AbstractCachingComparer<TElement> cmp = childComparer == null
+                ? new CachingComparer<>(keySelector, Long::compare, this.descending)
+                : new CachingComparerWithChild<>(keySelector, Long::compare, this.descending, childComparer);
+        return this.parent != null ? this.parent.getComparer(cmp) : cmp;
+    }
+}
+
+
+final class DoubleOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final AbstractOrderedEnumerable<TElement> parent;
+    private final DoubleFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    DoubleOrderedEnumerable(IEnumerable<TElement> source, DoubleFunc1<TElement> keySelector, boolean descending, AbstractOrderedEnumerable<TElement> parent) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.parent = parent;
+        if (parent != null) {
+            this.parallel = parent.parallel;
+            this.codec = parent.codec;
+            this.maxElementsInMemory = parent.maxElementsInMemory;
+        }
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    // Maps a double to a long whose signed order equals the order defined by Double.compare.
+    private static long toSortableLong(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    @Override
+    public AbstractOrderedEnumerable<TElement> clone() {
+        return new DoubleOrderedEnumerable<>(this.source, this.keySelector, this.descending, this.parent);
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        DoubleFunc1<TElement> keySelector = this.keySelector;
+        AbstractEnumerableSorter<TElement> sorter = new LongEnumerableSorter<>(element -> toSortableLong(keySelector.apply(element)), this.descending, next);
+        if (this.parent != null)
+            sorter = this.parent.getEnumerableSorter(sorter);
+        return sorter;
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        Func1<TElement, Double> keySelector = this.keySelector::apply;
+        AbstractCachingComparer<TElement> cmp = childComparer == null
+                ? new CachingComparer<>(keySelector, Double::compare, this.descending)
+                : new CachingComparerWithChild<>(keySelector, Double::compare, this.descending, childComparer);
+        return this.parent != null ? this.parent.getComparer(cmp) : cmp;
+    }
+}
+
+
 abstract class AbstractCachingComparer<TElement> {
     abstract int compare(TElement element, boolean cacheLower);
 
@@ -543,106 +1052,244 @@ final class CachingComparerWithChild<TElement, TKey> extends CachingComparer<TEl
 
 @SuppressWarnings("SameParameterValue")
 abstract class AbstractEnumerableSorter<TElement> {
-    protected abstract void computeKeys(Object[] elements, int count);
+    protected static final int RADIX_SORT_THRESHOLD = 64;
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    private static final int PARALLEL_SORT_GRANULARITY = 1 << 13;
+    private static final int INTROSORT_SIZE_THRESHOLD = 16;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    protected final AbstractEnumerableSorter<TElement> next;
+
+    protected AbstractEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        this.next = next;
+    }
+
+    protected abstract void allocateKeys(int count);
+
+    // Computes the keys of elements in [lo, hi). Different ranges may be computed concurrently.
+    protected abstract void computeKeys(Object[] elements, int lo, int hi);
 
     protected abstract int compareAnyKeys(int index1, int index2);
 
-    private Integer[] computeMap(Object[] elements, int count) {
-        this.computeKeys(elements, count);
-        Integer[] map = new Integer[count];
+    // Allocates the keys of every sorter in the chain.
+    void allocateKeyChain(int count) {
+        for (AbstractEnumerableSorter<TElement> sorter = this; sorter != null; sorter = sorter.next)
+            sorter.allocateKeys(count);
+    }
+
+    // Computes the keys of elements in [lo, hi) for every sorter in the chain.
+    void computeKeyChain(Object[] elements, int lo, int hi) {
+        for (AbstractEnumerableSorter<TElement> sorter = this; sorter != null; sorter = sorter.next)
+            sorter.computeKeys(elements, lo, hi);
+    }
+
+    private void computeKeys(Object[] elements, int count, boolean parallel) {
+        this.allocateKeyChain(count);
+        if (parallel)
+            ForkJoinPool.commonPool().invoke(new ComputeKeysTask<>(this, elements, 0, count, parallelGranularity(count)));
+        else
+            this.computeKeyChain(elements, 0, count);
+    }
+
+    private int[] computeMap(Object[] elements, int count, boolean parallel) {
+        this.computeKeys(elements, count, parallel);
+        int[] map = new int[count];
         for (int i = 0; i < map.length; i++)
             map[i] = i;
         return map;
     }
 
-    protected Integer[] sort(Object[] elements, int count) {
-        Integer[] map = this.computeMap(elements, count);
+    private int[] computeMap(Object[] elements, int count) {
+        return this.computeMap(elements, count, false);
+    }
+
+    protected int[] sort(Object[] elements, int count) {
+        int[] map = this.computeMap(elements, count);
         this.quickSort(map, 0, count - 1);
         return map;
     }
 
-    protected Integer[] sort(Object[] elements, int count, int minIdx, int maxIdx) {
-        Integer[] map = this.computeMap(elements, count);
+    // Computes the keys in parallel chunks, sorts the chunks in parallel and merges them on the common fork/join pool.
+    // The order produced is identical to sort(Object[], int).
+    protected int[] parallelSort(Object[] elements, int count) {
+        int[] map = this.computeMap(elements, count, true);
+        int[] buffer = ArrayPool.ints().rent(count);
+        ForkJoinPool.commonPool().invoke(new MergeSortTask<>(this, map, buffer, 0, count - 1, parallelGranularity(count)));
+        ArrayPool.ints().release(buffer);
+        return map;
+    }
+
+    static boolean shouldSortInParallel(int count) {
+        return count >= PARALLEL_SORT_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    private static int parallelGranularity(int count) {
+        return Math.max(count / (ForkJoinPool.getCommonPoolParallelism() << 2), PARALLEL_SORT_GRANULARITY);
+    }
+
+    // Merges the sorted runs [lo, mid] and [mid + 1, hi] of the map.
+    void merge(int[] map, int[] buffer, int lo, int mid, int hi) {
+        if (this.compareKeys(map[mid], map[mid + 1]) <= 0)
+            return;
+
+        System.arraycopy(map, lo, buffer, lo, mid - lo + 1);
+        int i = lo;
+        int j = mid + 1;
+        int k = lo;
+        while (i <= mid && j <= hi) {
+            if (this.compareKeys(map[j], buffer[i]) < 0)
+                map[k++] = map[j++];
+            else
+                map[k++] = buffer[i++];
+        }
+        while (i <= mid)
+            map[k++] = buffer[i++];
+    }
+
+    protected int[] sort(Object[] elements, int count, int minIdx, int maxIdx) {
+        int[] map = this.computeMap(elements, count);
         this.partialQuickSort(map, 0, count - 1, minIdx, maxIdx);
         return map;
     }
 
     protected TElement elementAt(Object[] elements, int count, int idx) {
-        Integer[] map = this.computeMap(elements, count);
+        int[] map = this.computeMap(elements, count);
         //noinspection unchecked
         return (TElement) (idx == 0 ? elements[this.min(map, count)] : elements[this.quickSelect(map, count - 1, idx)]);
     }
 
-    protected abstract void quickSort(Integer[] map, int left, int right);
+    int compareKeys(int index1, int index2) {
+        return index1 == index2 ? 0 : this.compareAnyKeys(index1, index2);
+    }
 
-    // Sorts the k elements between minIdx and maxIdx without sorting all elements
-    // Time complexity: O(n + k log k) best and average case. O(n^2) worse case.
-    protected abstract void partialQuickSort(Integer[] map, int left, int right, int minIdx, int maxIdx);
+    // Introspective sort over the index map. compareAnyKeys breaks ties by index, so the order is total and the result is stable.
+    // Time complexity: O(n log n) best, average and worse case.
+    protected void quickSort(int[] map, int lo, int hi) {
+        int length = hi - lo + 1;
+        if (length > 1)
+            this.introSort(map, lo, hi, 2 * (31 - Integer.numberOfLeadingZeros(length) + 1));
+    }
 
-    // Finds the element that would be at idx if the collection was sorted.
-    // Time complexity: O(n) best and average case. O(n^2) worse case.
-    protected abstract int quickSelect(Integer[] map, int right, int idx);
+    private void introSort(int[] map, int lo, int hi, int depthLimit) {
+        while (hi > lo) {
+            int partitionSize = hi - lo + 1;
+            if (partitionSize <= INTROSORT_SIZE_THRESHOLD) {
+                if (partitionSize == 2) {
+                    this.swapIfGreater(map, lo, hi);
+                    return;
+                }
+                if (partitionSize == 3) {
+                    this.swapIfGreater(map, lo, hi - 1);
+                    this.swapIfGreater(map, lo, hi);
+                    this.swapIfGreater(map, hi - 1, hi);
+                    return;
+                }
+                this.insertionSort(map, lo, hi);
+                return;
+            }
 
-    protected abstract int min(Integer[] map, int count);
-}
+            if (depthLimit == 0) {
+                this.heapSort(map, lo, hi);
+                return;
+            }
+            depthLimit--;
 
+            int p = this.pickPivotAndPartition(map, lo, hi);
+            // Note we've already partitioned around the pivot and do not have to move the pivot again.
+            this.introSort(map, p + 1, hi, depthLimit);
+            hi = p - 1;
+        }
+    }
 
-final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TElement> {
-    private final Func1<TElement, TKey> keySelector;
-    private final Comparator<TKey> comparer;
-    private final boolean descending;
-    private final AbstractEnumerableSorter<TElement> next;
-    private Object[] keys;
+    private int pickPivotAndPartition(int[] map, int lo, int hi) {
+        // Compute median-of-three. But also partition them, since we've done the comparison.
+        int middle = lo + ((hi - lo) >> 1);
 
-    EnumerableSorter(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, AbstractEnumerableSorter<TElement> next) {
-        this.keySelector = keySelector;
-        this.comparer = comparer;
-        this.descending = descending;
-        this.next = next;
+        // Sort lo, mid and hi appropriately, then pick mid as the pivot.
+        this.swapIfGreater(map, lo, middle);
+        this.swapIfGreater(map, lo, hi);
+        this.swapIfGreater(map, middle, hi);
+
+        int pivot = map[middle];
+        swap(map, middle, hi - 1);
+        int left = lo;
+        int right = hi - 1; // We already partitioned lo and hi and put the pivot in hi - 1. And we pre-increment & decrement below.
+
+        while (left < right) {
+            //noinspection StatementWithEmptyBody
+            while (left < (hi - 1) && this.compareKeys(map[++left], pivot) < 0) {
+            }
+            //noinspection StatementWithEmptyBody
+            while (right > lo && this.compareKeys(pivot, map[--right]) < 0) {
+            }
+
+            if (left >= right)
+                break;
+
+            swap(map, left, right);
+        }
+
+        // Put pivot in the right location.
+        if (left != hi - 1)
+            swap(map, left, hi - 1);
+        return left;
     }
 
-    @Override
-    protected void computeKeys(Object[] elements, int count) {
-        this.keys = new Object[count];
-        for (int i = 0; i < count; i++)
-            //noinspection unchecked
-            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
-        if (this.next == null)
-            return;
-        this.next.computeKeys(elements, count);
+    private void heapSort(int[] map, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int i = n >> 1; i >= 1; i--)
+            this.downHeap(map, i, n, lo);
+
+        for (int i = n; i > 1; i--) {
+            swap(map, lo, lo + i - 1);
+            this.downHeap(map, 1, i - 1, lo);
+        }
     }
 
-    @Override
-    protected int compareAnyKeys(int index1, int index2) {
-        assert this.keys != null;
+    private void downHeap(int[] map, int i, int n, int lo) {
+        int d = map[lo + i - 1];
+        while (i <= n >> 1) {
+            int child = 2 * i;
+            if (child < n && this.compareKeys(map[lo + child - 1], map[lo + child]) < 0)
+                child++;
 
-        //noinspection unchecked
-        int c = this.comparer.compare((TKey) this.keys[index1], (TKey) this.keys[index2]);
-        if (c == 0) {
-            if (this.next == null)
-                return index1 - index2; // ensure stability of sort
-            return this.next.compareAnyKeys(index1, index2);
+            if (this.compareKeys(d, map[lo + child - 1]) >= 0)
+                break;
+
+            map[lo + i - 1] = map[lo + child - 1];
+            i = child;
         }
+        map[lo + i - 1] = d;
+    }
 
-        // -c will result in a negative value for int.MinValue (-int.MinValue == int.MinValue).
-        // Flipping keys earlier is more likely to trigger something strange in a comparer,
-        // particularly as it comes to the sort being stable.
-        return this.descending != (c > 0) ? 1 : -1;
+    private void insertionSort(int[] map, int lo, int hi) {
+        for (int i = lo; i < hi; i++) {
+            int t = map[i + 1];
+            int j = i;
+            while (j >= lo && this.compareKeys(t, map[j]) < 0) {
+                map[j + 1] = map[j];
+                j--;
+            }
+            map[j + 1] = t;
+        }
     }
 
-    private int compareKeys(int index1, int index2) {
-        return index1 == index2 ? 0 : this.compareAnyKeys(index1, index2);
+    private void swapIfGreater(int[] map, int i, int j) {
+        if (this.compareKeys(map[i], map[j]) > 0)
+            swap(map, i, j);
     }
 
-    @Override
-    protected void quickSort(Integer[] keys, int lo, int hi) {
-        Arrays.sort(keys, lo, hi - lo + 1, Comparer.create(this::compareAnyKeys));
+    private static void swap(int[] map, int i, int j) {
+        int temp = map[i];
+        map[i] = map[j];
+        map[j] = temp;
     }
 
     // Sorts the k elements between minIdx and maxIdx without sorting all elements
     // Time complexity: O(n + k log k) best and average case. O(n^2) worse case.
-    @Override
-    protected void partialQuickSort(Integer[] map, int left, int right, int minIdx, int maxIdx) {
+    protected void partialQuickSort(int[] map, int left, int right, int minIdx, int maxIdx) {
         do {
             int i = left;
             int j = right;
@@ -688,8 +1335,7 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
 
     // Finds the element that would be at idx if the collection was sorted.
     // Time complexity: O(n) best and average case. O(n^2) worse case.
-    @Override
-    protected int quickSelect(Integer[] map, int right, int idx) {
+    protected int quickSelect(int[] map, int right, int idx) {
         int left = 0;
         do {
             int i = left;
@@ -736,8 +1382,7 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
         return map[idx];
     }
 
-    @Override
-    protected int min(Integer[] map, int count) {
+    protected int min(int[] map, int count) {
         int index = 0;
         for (int i = 1; i < count; i++) {
             if (this.compareKeys(map[i], map[index]) < 0)
@@ -745,4 +1390,276 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
         }
         return map[index];
     }
+
+    // Stable LSD radix sort of the index map by int keys, one byte per pass. Passes where every key has the same digit are skipped.
+    // Time complexity: O(n) best, average and worse case.
+    protected static void radixSort(int[] map, int lo, int hi, int[] keys, boolean descending) {
+        int count = hi - lo + 1;
+        int flip = descending ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        int[] src = map;
+        int srcLo = lo;
+        int[] dst = ArrayPool.ints().rent(count);
+        int dstLo = 0;
+        int[] offsets = new int[RADIX];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(offsets, 0);
+            for (int i = srcLo, end = srcLo + count; i < end; i++)
+                offsets[((keys[src[i]] ^ flip) >>> shift) & RADIX_MASK]++;
+            if (offsets[((keys[src[srcLo]] ^ flip) >>> shift) & RADIX_MASK] == count)
+                continue;
+            for (int d = 0, sum = dstLo; d < RADIX; d++) {
+                int c = offsets[d];
+                offsets[d] = sum;
+                sum += c;
+            }
+            for (int i = srcLo, end = srcLo + count; i < end; i++) {
+                int index = src[i];
+                dst[offsets[((keys[index] ^ flip) >>> shift) & RADIX_MASK]++] = index;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+            int tempLo = srcLo;
+            srcLo = dstLo;
+            dstLo = tempLo;
+        }
+        if (src != map)
+            System.arraycopy(src, srcLo, map, lo, count);
+        ArrayPool.ints().release(src == map ? dst : src);
+    }
+
+    // Stable LSD radix sort of the index map by long keys, one byte per pass. Passes where every key has the same digit are skipped.
+    // Time complexity: O(n) best, average and worse case.
+    protected static void radixSort(int[] map, int lo, int hi, long[] keys, boolean descending) {
+        int count = hi - lo + 1;
+        long flip = descending ? Long.MAX_VALUE : Long.MIN_VALUE;
+        int[] src = map;
+        int srcLo = lo;
+        int[] dst = ArrayPool.ints().rent(count);
+        int dstLo = 0;
+        int[] offsets = new int[RADIX];
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(offsets, 0);
+            for (int i = srcLo, end = srcLo + count; i < end; i++)
+                offsets[(int) ((keys[src[i]] ^ flip) >>> shift) & RADIX_MASK]++;
+            if (offsets[(int) ((keys[src[srcLo]] ^ flip) >>> shift) & RADIX_MASK] == count)
+                continue;
+            for (int d = 0, sum = dstLo; d < RADIX; d++) {
+                int c = offsets[d];
+                offsets[d] = sum;
+                sum += c;
+            }
+            for (int i = srcLo, end = srcLo + count; i < end; i++) {
+                int index = src[i];
+                dst[offsets[(int) ((keys[index] ^ flip) >>> shift) & RADIX_MASK]++] = index;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+            int tempLo = srcLo;
+            srcLo = dstLo;
+            dstLo = tempLo;
+        }
+        if (src != map)
+            System.arraycopy(src, srcLo, map, lo, count);
+        ArrayPool.ints().release(src == map ? dst : src);
+    }
+}
+
+
+final class ComputeKeysTask<TElement> extends RecursiveAction {
+    private final AbstractEnumerableSorter<TElement> sorter;
+    private final Object[] elements;
+    private final int lo;
+    private final int hi;
+    private final int granularity;
+
+    ComputeKeysTask(AbstractEnumerableSorter<TElement> sorter, Object[] elements, int lo, int hi, int granularity) {
+        this.sorter = sorter;
+        this.elements = elements;
+        this.lo = lo;
+        this.hi = hi;
+        this.granularity = granularity;
+    }
+
+    @Override
+    protected void compute() {
+        if (this.hi - this.lo <= this.granularity) {
+            this.sorter.computeKeyChain(this.elements, this.lo, this.hi);
+            return;
+        }
+        int mid = (this.lo + this.hi) >>> 1;
+        invokeAll(new ComputeKeysTask<>(this.sorter, this.elements, this.lo, mid, this.granularity),
+                new ComputeKeysTask<>(this.sorter, this.elements, mid, this.hi, this.granularity));
+    }
+}
+
+
+final class MergeSortTask<TElement> extends RecursiveAction {
+    private final AbstractEnumerableSorter<TElement> sorter;
+    private final int[] map;
+    private final int[] buffer;
+    private final int lo;
+    private final int hi;
+    private final int granularity;
+
+    MergeSortTask(AbstractEnumerableSorter<TElement> sorter, int[] map, int[] buffer, int lo, int hi, int granularity) {
+        this.sorter = sorter;
+        this.map = map;
+        this.buffer = buffer;
+        this.lo = lo;
+        this.hi = hi;
+        this.granularity = granularity;
+    }
+
+    @Override
+    protected void compute() {
+        if (this.hi - this.lo < this.granularity) {
+            this.sorter.quickSort(this.map, this.lo, this.hi);
+            return;
+        }
+        int mid = (this.lo + this.hi) >>> 1;
+        invokeAll(new MergeSortTask<>(this.sorter, this.map, this.buffer, this.lo, mid, this.granularity),
+                new MergeSortTask<>(this.sorter, this.map, this.buffer, mid + 1, this.hi, this.granularity));
+        this.sorter.merge(this.map, this.buffer, this.lo, mid, this.hi);
+    }
+}
+
+
+final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TElement> {
+    private final Func1<TElement, TKey> keySelector;
+    private final Comparator<TKey> comparer;
+    private final boolean descending;
+    private Object[] keys;
+
+    EnumerableSorter(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        super(next);
+        this.keySelector = keySelector;
+        this.comparer = comparer;
+        this.descending = descending;
+    }
+
+    @Override
+    protected void allocateKeys(int count) {
+        this.keys = new Object[count];
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int lo, int hi) {
+        for (int i = lo; i < hi; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        //noinspection unchecked
+        int c = this.comparer.compare((TKey) this.keys[index1], (TKey) this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+
+        // -c will result in a negative value for int.MinValue (-int.MinValue == int.MinValue).
+        // Flipping keys earlier is more likely to trigger something strange in a comparer,
+        // particularly as it comes to the sort being stable.
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+}
+
+
+final class IntEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final IntFunc1<TElement> keySelector;
+    private final boolean descending;
+    private int[] keys;
+
+    IntEnumerableSorter(IntFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        super(next);
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected void allocateKeys(int count) {
+        this.keys = new int[count];
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int lo, int hi) {
+        for (int i = lo; i < hi; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        int c = Integer.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected void quickSort(int[] map, int lo, int hi) {
+        if (this.next == null && hi - lo + 1 >= RADIX_SORT_THRESHOLD)
+            radixSort(map, lo, hi, this.keys, this.descending);
+        else
+            super.quickSort(map, lo, hi);
+    }
+}
+
+
+final class LongEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final LongFunc1<TElement> keySelector;
+    private final boolean descending;
+    private long[] keys;
+
+    LongEnumerableSorter(LongFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        super(next);
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected void allocateKeys(int count) {
+        this.keys = new long[count];
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int lo, int hi) {
+        for (int i = lo; i < hi; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        int c = Long.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected void quickSort(int[] map, int lo, int hi) {
+        if (this.next == null && hi - lo + 1 >= RADIX_SORT_THRESHOLD)
+            radixSort(map, lo, hi, this.keys, this.descending);
+        else
+            super.quickSort(map, lo, hi);
+    }
 }
@@ -233,6 +233,16 @@ final class ListPartition<TSource> extends Iterator<TSource> implements IPartiti
         return false;
     }
 
+    @Override
+    public boolean _forEachUntil(Predicate1<TSource> action) {
+        // same bounds as moveNext, checked on every step so a list resized by the action is seen the same way
+        for (int index = 0; Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive; index++) {
+            if (action.apply(this.source.get(this.minIndexInclusive + index)))
+                return true;
+        }
+        return false;
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<TSource, TResult> selector) {
         return new SelectListPartitionIterator<>(this.source, selector, this.minIndexInclusive, this.maxIndexInclusive);
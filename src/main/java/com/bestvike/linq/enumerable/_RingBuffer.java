@@ -0,0 +1,72 @@
+package com.bestvike.linq.enumerable;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+final class RingBuffer<TElement> {
+    private static final int DEFAULT_CAPACITY = 4;
+    private final int capacity;
+    // The array grows on demand until it reaches the capacity, then the elements wrap around it.
+    private Object[] items;
+    private int head;
+    private int count;
+
+    RingBuffer(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+        this.items = new Object[Math.min(capacity, DEFAULT_CAPACITY)];
+    }
+
+    // The number of items in this buffer.
+    public int getCount() {
+        return this.count;
+    }
+
+    // Whether this buffer holds as many items as its capacity.
+    public boolean isFull() {
+        return this.count == this.capacity;
+    }
+
+    // Appends an item to a buffer that is not full.
+    public void add(TElement item) {
+        assert this.count < this.capacity;
+        if (this.count == this.items.length)
+            this.grow();
+        int tail = this.head + this.count;
+        this.items[tail < this.items.length ? tail : tail - this.items.length] = item;
+        this.count++;
+    }
+
+    // Appends an item to a full buffer and returns the oldest item, which it replaces.
+    public TElement exchange(TElement item) {
+        assert this.count == this.capacity && this.items.length == this.capacity;
+        //noinspection unchecked
+        TElement oldest = (TElement) this.items[this.head];
+        this.items[this.head] = item;
+        if (++this.head == this.items.length)
+            this.head = 0;
+        return oldest;
+    }
+
+    // Removes and returns the oldest item of a buffer that is not empty.
+    public TElement remove() {
+        assert this.count > 0;
+        //noinspection unchecked
+        TElement oldest = (TElement) this.items[this.head];
+        this.items[this.head] = null;
+        if (++this.head == this.items.length)
+            this.head = 0;
+        this.count--;
+        return oldest;
+    }
+
+    private void grow() {
+        int newLength = (int) Math.min(this.capacity, this.items.length * 2L);
+        Object[] newItems = new Object[newLength];
+        int firstPart = Math.min(this.count, this.items.length - this.head);
+        System.arraycopy(this.items, this.head, newItems, 0, firstPart);
+        System.arraycopy(this.items, 0, newItems, firstPart, this.count - firstPart);
+        this.items = newItems;
+        this.head = 0;
+    }
+}
@@ -8,63 +8,80 @@ import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.util.ArrayUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Created by 许崇雷 on 2018-05-07.
  */
 final class Set<TElement> {
+    private static final int DEFAULT_CAPACITY = 8;
     private final IEqualityComparer<TElement> comparer;
+    // Entries are stored as parallel arrays indexed by insertion order, buckets hold the entry index plus one.
     private int[] buckets;
-    private Slot[] slots;
+    private int[] hashCodes;
+    private int[] next;
+    private Object[] values;
     private int count;
 
     // Constructs a set that compares items with the specified comparer.
     Set(IEqualityComparer<TElement> comparer) {
         this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
-        this.buckets = new int[7];
-        //noinspection unchecked
-        this.slots = new Set.Slot[7];
-        for (int i = 0; i < 7; i++)
-            this.slots[i] = new Slot();
+        this.buckets = new int[DEFAULT_CAPACITY];
+        this.hashCodes = new int[DEFAULT_CAPACITY];
+        this.next = new int[DEFAULT_CAPACITY];
+        this.values = new Object[DEFAULT_CAPACITY];
     }
 
     // If value is not in set, add it and return true; otherwise return false
     public boolean add(TElement value) {
         int hashCode = this.internalGetHashCode(value);
-        for (int i = this.buckets[hashCode % this.buckets.length] - 1; i >= 0; i = this.slots[i].next) {
-            if (this.slots[i].hashCode == hashCode && this.comparer.equals(this.slots[i].value, value))
+        for (int i = this.buckets[hashCode & (this.buckets.length - 1)] - 1; i >= 0; i = this.next[i]) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value))
                 return false;
         }
 
-        if (this.count == this.slots.length)
+        if (this.count == this.values.length)
             this.resize();
 
         int index = this.count;
         this.count++;
-        int bucket = hashCode % this.buckets.length;
-        this.slots[index].hashCode = hashCode;
-        this.slots[index].value = value;
-        this.slots[index].next = this.buckets[bucket] - 1;
+        int bucket = hashCode & (this.buckets.length - 1);
+        this.hashCodes[index] = hashCode;
+        this.values[index] = value;
+        this.next[index] = this.buckets[bucket] - 1;
         this.buckets[bucket] = index + 1;
         return true;
     }
 
+    // Determines whether the set contains the specified value.
+    public boolean contains(TElement value) {
+        int hashCode = this.internalGetHashCode(value);
+        for (int i = this.buckets[hashCode & (this.buckets.length - 1)] - 1; i >= 0; i = this.next[i]) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value))
+                return true;
+        }
+        return false;
+    }
+
     // Attempts to remove an item from this set.
     public boolean remove(TElement value) {
         int hashCode = this.internalGetHashCode(value);
-        int bucket = hashCode % this.buckets.length;
+        int bucket = hashCode & (this.buckets.length - 1);
         int last = -1;
-        for (int i = this.buckets[bucket] - 1; i >= 0; last = i, i = this.slots[i].next) {
-            if (this.slots[i].hashCode == hashCode && this.comparer.equals(this.slots[i].value, value)) {
+        for (int i = this.buckets[bucket] - 1; i >= 0; last = i, i = this.next[i]) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value)) {
                 if (last < 0)
-                    this.buckets[bucket] = this.slots[i].next + 1;
+                    this.buckets[bucket] = this.next[i] + 1;
                 else
-                    this.slots[last].next = this.slots[i].next;
+                    this.next[last] = this.next[i];
 
-                this.slots[i].hashCode = -1;
-                this.slots[i].value = null;
-                this.slots[i].next = -1;
+                this.hashCodes[i] = -1;
+                this.values[i] = null;
+                this.next[i] = -1;
                 return true;
             }
         }
@@ -72,38 +89,40 @@ final class Set<TElement> {
         return false;
     }
 
-    // Expands the capacity of this set to double the current capacity, plus one.
+    // Doubles the capacity of this set, the number of buckets is kept equal to the capacity.
     private void resize() {
-        int newSize = Math.addExact(Math.multiplyExact(this.count, 2), 1);
+        int newSize = Math.multiplyExact(this.values.length, 2);
         int[] newBuckets = new int[newSize];
-        //noinspection unchecked
-        Slot[] newSlots = new Set.Slot[newSize];
-        System.arraycopy(this.slots, 0, newSlots, 0, this.count);
-        for (int i = this.count; i < newSize; i++)
-            newSlots[i] = new Slot();
+        int[] newHashCodes = Arrays.copyOf(this.hashCodes, newSize);
+        int[] newNext = new int[newSize];
+        Object[] newValues = Arrays.copyOf(this.values, newSize);
+        int mask = newSize - 1;
         for (int i = 0; i < this.count; i++) {
-            int bucket = newSlots[i].hashCode % newSize;
-            newSlots[i].next = newBuckets[bucket] - 1;
+            if (newHashCodes[i] < 0) {
+                newNext[i] = -1;
+                continue;
+            }
+            int bucket = newHashCodes[i] & mask;
+            newNext[i] = newBuckets[bucket] - 1;
             newBuckets[bucket] = i + 1;
         }
         this.buckets = newBuckets;
-        this.slots = newSlots;
+        this.hashCodes = newHashCodes;
+        this.next = newNext;
+        this.values = newValues;
     }
 
     // Creates an array from the items in this set.
     public TElement[] toArray(Class<TElement> clazz) {
         TElement[] array = ArrayUtils.newInstance(clazz, this.count);
-        for (int i = 0; i != array.length; ++i)
-            array[i] = this.slots[i].value;
+        //noinspection SuspiciousSystemArraycopy
+        System.arraycopy(this.values, 0, array, 0, this.count);
         return array;
     }
 
     // Creates an array from the items in this set.
     public Object[] toArray() {
-        Object[] array = new Object[this.count];
-        for (int i = 0; i != array.length; ++i)
-            array[i] = this.slots[i].value;
-        return array;
+        return Arrays.copyOf(this.values, this.count);
     }
 
     // Creates a list from the items in this set.
@@ -111,7 +130,8 @@ final class Set<TElement> {
         int count = this.count;
         List<TElement> list = new ArrayList<>(count);
         for (int i = 0; i != count; ++i)
-            list.add(this.slots[i].value);
+            //noinspection unchecked
+            list.add((TElement) this.values[i]);
         return list;
     }
 
@@ -141,16 +161,11 @@ final class Set<TElement> {
         }
     }
 
-    // Gets the hash code of the provided value with its sign bit zeroed out, so that modulo has a positive result.
+    // Gets the hash code of the provided value with its sign bit zeroed out and its high bits spread to the low bits used by the power of two buckets.
     private int internalGetHashCode(TElement value) {
-        return value == null ? 0 : this.comparer.hashCode(value) & 0x7FFFFFFF;
-    }
-
-
-    // An entry in the hash set.
-    private final class Slot {//struct
-        private int hashCode;
-        private int next;
-        private TElement value;
+        if (value == null)
+            return 0;
+        int h = this.comparer.hashCode(value);
+        return (h ^ (h >>> 16)) & 0x7FFFFFFF;
     }
 }
@@ -1,6 +1,8 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.collections.generic.IArrayList;
 import com.bestvike.collections.generic.ICollection;
+import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.util.ArrayUtils;
@@ -36,6 +38,22 @@ final class EnumerableHelpers {
         return false;
     }
 
+    // Whether any element of the enumerable can be reached by index without enumerating the ones before it.
+    public static <T> boolean isRandomAccess(IEnumerable<T> source) {
+        assert source != null;
+
+        return source instanceof IArrayList
+                || source instanceof ListPartition
+                || source instanceof RangeIterator
+                || source instanceof RepeatIterator
+                || source instanceof SelectArrayIterator
+                || source instanceof SelectListIterator
+                || source instanceof SelectListPartitionIterator
+                || source instanceof SelectRangeIterator
+                || source instanceof SelectRepeatIterator
+                || source instanceof EmptyPartition;
+    }
+
     //Copies items from an enumerable to an array.
     public static <T> void copy(IEnumerable<T> source, Object[] array, int arrayIndex, int count) {
         assert source != null;
@@ -168,10 +186,28 @@ final class EnumerableHelpers {
         }
 
         List<T> list = new ArrayList<>();
+        forEachUntil(source, item -> {
+            list.add(item);
+            return false;
+        });
+        return list;
+    }
+
+    // Pushes the elements to the action until it returns true, returns whether the action stopped the iteration.
+    // Built-in iterators push from a loop over their own source, other sources are pulled through their enumerator.
+    public static <T> boolean forEachUntil(IEnumerable<T> source, Predicate1<T> action) {
+        assert source != null;
+        assert action != null;
+
+        if (source instanceof Iterator)
+            return ((Iterator<T>) source)._forEachUntil(action);
+
         try (IEnumerator<T> e = source.enumerator()) {
-            while (e.moveNext())
-                list.add(e.current());
+            while (e.moveNext()) {
+                if (action.apply(e.current()))
+                    return true;
+            }
         }
-        return list;
+        return false;
     }
 }
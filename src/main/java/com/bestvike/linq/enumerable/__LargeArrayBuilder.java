@@ -3,6 +3,7 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.debug.DebuggerDisplay;
+import com.bestvike.linq.util.ArrayPool;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.out;
 import com.bestvike.ref;
@@ -75,7 +76,7 @@ final class LargeArrayBuilder<T> {//struct
     private static final int StartingCapacity = 4;
     private static final int ResizeLimit = 8;
 
-    private final ArrayBuilder<Object[]> buffers = new ArrayBuilder<>();    // After ResizeLimit * 2, we store previous buffers we've filled out here.
+    private ArrayBuilder<Object[]> buffers = new ArrayBuilder<>();          // After ResizeLimit * 2, we store previous buffers we've filled out here.
     private final int maxCapacity;                                          // The maximum capacity this builder can have.
     private Object[] first;                                                 // The first buffer we store items in. Resized until ResizeLimit.
     private Object[] current;                                               // Current buffer we're reading into. If count <= ResizeLimit, this is first.
@@ -225,6 +226,7 @@ final class LargeArrayBuilder<T> {//struct
 
         T[] array = ArrayUtils.newInstance(clazz, this.count);
         this.copyTo(array, 0, this.count);
+        this.release();
         return array;
     }
 
@@ -235,9 +237,24 @@ final class LargeArrayBuilder<T> {//struct
 
         Object[] array = new Object[this.count];
         this.copyTo(array, 0, this.count);
+        this.release();
         return array;
     }
 
+    // Returns the pooled buffers after their items have been copied out, this builder is empty afterwards.
+    public void release() {
+        if (this.current != this.first) {
+            ArrayPool<Object[]> pool = ArrayPool.objects();
+            for (int i = 0; i < this.buffers.getCount(); i++)
+                pool.release(this.buffers.get(i));
+            pool.release(this.current);
+        }
+        this.buffers = new ArrayBuilder<>();
+        this.first = this.current = ArrayUtils.empty();
+        this.index = 0;
+        this.count = 0;
+    }
+
     public boolean tryMove(out<Object[]> array) {
         array.value = this.first;
         return this.count == this.first.length;
@@ -274,11 +291,12 @@ final class LargeArrayBuilder<T> {//struct
                 // doing min(64, 100 - 64). The lhs represents double the last buffer,
                 // the rhs the limit minus the amount we've already allocated.
                 assert this.count >= ResizeLimit * 2;
-                assert this.count == this.current.length * 2;
+                assert this.count >= this.current.length;
                 this.buffers.add(this.current);
                 nextCapacity = Math.min(this.count, this.maxCapacity - this.count);
             }
-            this.current = new Object[nextCapacity];
+            // Rented buffers never escape, a pool may hand out a longer one and the rows simply follow its length.
+            this.current = ArrayPool.objects().rent(nextCapacity);
             this.index = 0;
         }
     }
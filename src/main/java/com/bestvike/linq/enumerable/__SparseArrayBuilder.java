@@ -152,6 +152,7 @@ final class SparseArrayBuilder<T> {//struct
 
         T[] array = ArrayUtils.newInstance(clazz, this.getCount());
         this.copyTo(array, 0, array.length);
+        this.builder.release();
         return array;
     }
 
@@ -165,6 +166,7 @@ final class SparseArrayBuilder<T> {//struct
 
         Object[] array = new Object[this.getCount()];
         this.copyTo(array, 0, array.length);
+        this.builder.release();
         return array;
     }
 }
@@ -26,24 +26,33 @@ public enum ExceptionArgument {
     action,
     array,
     clazz,
+    codec,
     collator,
     collection,
+    combiner,
     comparison,
     condition,
     current,
+    degreeOfParallelism,
     elements,
     formatter,
     hasNext,
+    innerCodec,
     iterable,
     length,
     locale,
     match,
+    maxElementsInMemory,
     moveNext,
     newSize,
     next,
     obj,
     options,
     other,
+    outerCodec,
+    pool,
+    seedFactory,
+    size,
     startIndex,
     value,
 }
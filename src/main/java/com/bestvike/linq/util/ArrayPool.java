@@ -0,0 +1,150 @@
+package com.bestvike.linq.util;
+
+import com.bestvike.function.Action1;
+import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public abstract class ArrayPool<TArray> {
+    private static volatile boolean enabled = true;
+    private static volatile ArrayPool<Object[]> objects = new BucketArrayPool<>(Object[]::new, array -> array.length, array -> Arrays.fill(array, null));
+    private static volatile ArrayPool<int[]> ints = new BucketArrayPool<>(int[]::new, array -> array.length, null);
+
+    protected ArrayPool() {
+    }
+
+    /**
+     * 是否启用数组池, 禁用后租用总是分配新数组, 归还的数组直接丢弃
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ArrayPool.enabled = enabled;
+    }
+
+    /**
+     * 内部构建器租用的 Object 数组池
+     */
+    public static ArrayPool<Object[]> objects() {
+        return objects;
+    }
+
+    public static void setObjects(ArrayPool<Object[]> pool) {
+        if (pool == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.pool);
+
+        objects = pool;
+    }
+
+    /**
+     * 排序器租用的 int 数组池
+     */
+    public static ArrayPool<int[]> ints() {
+        return ints;
+    }
+
+    public static void setInts(ArrayPool<int[]> pool) {
+        if (pool == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.pool);
+
+        ints = pool;
+    }
+
+    /**
+     * 租用长度至少为 minimumLength 的数组, 数组内容未定义
+     */
+    public abstract TArray rent(int minimumLength);
+
+    /**
+     * 归还租用的数组, 归还后调用方不得再使用该数组
+     */
+    public abstract void release(TArray array);
+
+
+    // Power of two size classes with one cached array per small class per thread, plus a few shared arrays per class.
+    private static final class BucketArrayPool<TArray> extends ArrayPool<TArray> {
+        private static final int MIN_SHIFT = 3;
+        private static final int LOCAL_MAX_SHIFT = 16;
+        private static final int MAX_SHIFT = 20;
+        private static final int SHARED_PER_BUCKET = 4;
+
+        private final Func1<Integer, TArray> factory;
+        private final IntFunc1<TArray> lengthOf;
+        private final Action1<TArray> clear;
+        private final AtomicReferenceArray<TArray> shared = new AtomicReferenceArray<>((MAX_SHIFT - MIN_SHIFT + 1) * SHARED_PER_BUCKET);
+        private final ThreadLocal<Object[]> local = ThreadLocal.withInitial(() -> new Object[LOCAL_MAX_SHIFT - MIN_SHIFT + 1]);
+
+        BucketArrayPool(Func1<Integer, TArray> factory, IntFunc1<TArray> lengthOf, Action1<TArray> clear) {
+            this.factory = factory;
+            this.lengthOf = lengthOf;
+            this.clear = clear;
+        }
+
+        // The size class an array of the specified length is rented from, -1 if it is not pooled.
+        private static int bucketOf(int length) {
+            if (length <= 1 << MIN_SHIFT)
+                return 0;
+            if (length > 1 << MAX_SHIFT)
+                return -1;
+            return Integer.SIZE - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+        }
+
+        @Override
+        public TArray rent(int minimumLength) {
+            if (minimumLength < 0)
+                ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.length);
+
+            int bucket = enabled ? bucketOf(minimumLength) : -1;
+            if (bucket == -1)
+                return this.factory.apply(minimumLength);
+
+            TArray array;
+            Object[] cache = this.local.get();
+            if (bucket < cache.length && cache[bucket] != null) {
+                //noinspection unchecked
+                array = (TArray) cache[bucket];
+                cache[bucket] = null;
+                return array;
+            }
+            for (int i = bucket * SHARED_PER_BUCKET, end = i + SHARED_PER_BUCKET; i < end; i++) {
+                if (this.shared.get(i) != null && (array = this.shared.getAndSet(i, null)) != null)
+                    return array;
+            }
+            return this.factory.apply(1 << (bucket + MIN_SHIFT));
+        }
+
+        @Override
+        public void release(TArray array) {
+            if (array == null)
+                ThrowHelper.throwArgumentNullException(ExceptionArgument.array);
+
+            if (!enabled)
+                return;
+            int length = this.lengthOf.apply(array);
+            int bucket = bucketOf(length);
+            if (bucket == -1 || length != 1 << (bucket + MIN_SHIFT))
+                return;
+
+            if (this.clear != null)
+                this.clear.apply(array);
+            Object[] cache = this.local.get();
+            if (bucket < cache.length && cache[bucket] == null) {
+                cache[bucket] = array;
+                return;
+            }
+            for (int i = bucket * SHARED_PER_BUCKET, end = i + SHARED_PER_BUCKET; i < end; i++) {
+                if (this.shared.get(i) == null && this.shared.compareAndSet(i, null, array))
+                    return;
+            }
+        }
+    }
+}
@@ -211,4 +211,15 @@ class AggregateTest extends TestCase {
                         res -> "<no key>: " + res);
         assertEquals("<no key>: Fred+Bill+Eric+Janet", s);
     }
+
+    @Test
+    void testAggregatePushed() {
+        IEnumerable<Integer> source = Linq.range(1, 10).where(x -> x % 2 == 1);
+        assertEquals(945, source.aggregate((x, y) -> x * y));
+        assertEquals(26, source.aggregate(1, (x, y) -> x + y));
+        assertEquals("25", source.aggregate(0, (x, y) -> x + y, String::valueOf));
+        assertEquals(3, source.take(2).aggregate((x, y) -> x * y));
+        assertThrows(InvalidOperationException.class, () -> Linq.range(1, 10).where(x -> x > 10).aggregate((x, y) -> x + y));
+        assertNull(Linq.of(null, 1).select(x -> x).aggregate((x, y) -> x));
+    }
 }
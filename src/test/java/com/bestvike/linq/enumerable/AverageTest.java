@@ -656,4 +656,15 @@ class AverageTest extends TestCase {
         BigDecimal[] numbers2 = {null};
         assertEquals(null, Linq.of(numbers2).averageDecimalNull(n -> n));
     }
+
+    @Test
+    void testAveragePrimitiveArray() {
+        assertEquals(3.0, Linq.of(new int[]{1, 2, 3, 4, 5}).averageInt());
+        assertEquals((double) Integer.MAX_VALUE, Linq.of(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}).averageInt());
+        assertEquals(3.0, Linq.of(new long[]{1, 2, 3, 4, 5}).averageLong());
+        assertEquals(2.5, Linq.of(new double[]{1.5, 2.5, 3.5}).averageDouble());
+        assertThrows(InvalidOperationException.class, () -> Linq.of(new int[0]).averageInt());
+        assertThrows(InvalidOperationException.class, () -> Linq.of(new long[0]).averageLong());
+        assertThrows(InvalidOperationException.class, () -> Linq.of(new double[0]).averageDouble());
+    }
 }
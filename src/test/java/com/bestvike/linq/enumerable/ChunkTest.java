@@ -0,0 +1,109 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.IArray;
+import com.bestvike.collections.generic.IArrayList;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class ChunkTest extends TestCase {
+    private static void assertChunks(IEnumerable<IArrayList<Integer>> chunks, Integer[]... expected) {
+        assertEquals(expected.length, chunks.count());
+        int i = 0;
+        for (IArrayList<Integer> chunk : chunks)
+            assertEquals(Linq.of(expected[i++]), chunk);
+        assertEquals(expected.length, i);
+    }
+
+    @Test
+    void ThrowsOnNullSource() {
+        assertThrows(ArgumentNullException.class, () -> Chunk.chunk(null, 5));
+    }
+
+    @Test
+    void ThrowsOnNonPositiveSize() {
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.range(0, 5).chunk(0));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.of(new int[5]).chunk(-1));
+    }
+
+    @Test
+    void ChunkSourceLazily() {
+        IEnumerable<IArrayList<Integer>> chunks = ForceNotCollection(Linq.range(0, 7)).chunk(3);
+        assertChunks(chunks, new Integer[]{0, 1, 2}, new Integer[]{3, 4, 5}, new Integer[]{6});
+        assertChunks(Linq.of(new int[]{0, 1, 2, 3, 4, 5}).chunk(3), new Integer[]{0, 1, 2}, new Integer[]{3, 4, 5});
+        assertChunks(Linq.of(Arrays.asList(0, 1, 2)).chunk(10), new Integer[]{0, 1, 2});
+    }
+
+    @Test
+    void EmptySourceYieldsNoChunks() {
+        assertEmpty(Linq.<Integer>empty().chunk(3));
+        assertEmpty(ForceNotCollection(Linq.<Integer>empty()).chunk(3));
+    }
+
+    @Test
+    void LargeSizeDoesNotPreallocate() {
+        IEnumerable<IArrayList<Integer>> chunks = ForceNotCollection(Linq.range(0, 10)).chunk(Integer.MAX_VALUE);
+        assertEquals(1, chunks.count());
+        assertEquals(Linq.range(0, 10), chunks.first());
+    }
+
+    @Test
+    void ArraySourceYieldsViews() {
+        int[] values = {1, 2, 3, 4, 5, 6, 7};
+        IEnumerable<IArrayList<Integer>> chunks = Linq.of(values).chunk(3);
+        IArrayList<Integer> last = chunks.last();
+        assertIsAssignableFrom(IArray.class, last);
+        assertSame(values, ((IArray<Integer>) last).getArray());
+        assertEquals(6, ((IArray<Integer>) last)._getStartIndex());
+        assertEquals(1, last._getCount());
+        assertEquals(Linq.of(6, 15, 7), chunks.select(chunk -> chunk.sumInt()));
+        assertEquals(Linq.of(4, 5, 6), chunks.elementAt(1));
+        values[4] = 50;
+        assertEquals(Linq.of(4, 50, 6), chunks.elementAt(1));
+        assertEquals(2, chunks.elementAt(1)._indexOf(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> last.get(1));
+    }
+
+    @Test
+    void ListSourceYieldsViews() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(0, 1, 2, 3, 4));
+        IEnumerable<IArrayList<Integer>> chunks = Linq.of(list).chunk(2);
+        assertEquals(3, chunks.count());
+        list.add(5);
+        list.add(6);
+        assertEquals(4, chunks.count());
+        assertEquals(Linq.of(6), chunks.last());
+        assertEquals(Linq.of(2, 3), chunks.skip(1).first());
+        assertEquals(Linq.of(4, 5), chunks.skip(1).take(2).last());
+        assertEquals(Linq.of(2, 3, 4, 5), chunks.skip(1).take(2).selectMany(chunk -> chunk));
+    }
+
+    @Test
+    void ForcedToEnumeratorDoesntEnumerate() {
+        IEnumerable<IArrayList<Integer>> iterator = NumberRangeGuaranteedNotCollectionType(0, 3).chunk(2);
+        // Don't insist on this behaviour, but check it's correct if it happens
+        IEnumerator<IArrayList<Integer>> en = (IEnumerator<IArrayList<Integer>>) iterator;
+        assertFalse(en != null && en.moveNext());
+    }
+
+    @Test
+    void testChunk() {
+        IEnumerable<IArrayList<Integer>> chunks = Linq.range(0, 1000).where(x -> true).chunk(100);
+        Object[] array = chunks.toArray().getArray();
+        assertEquals(10, array.length);
+        assertEquals(10, chunks.toList().size());
+        assertEquals(Linq.range(0, 1000), Linq.of(array).selectMany(chunk -> (IArrayList<Integer>) chunk));
+        assertEquals(4, Linq.range(0, 1000).chunk(300).count());
+    }
+}
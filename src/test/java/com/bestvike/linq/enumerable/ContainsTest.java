@@ -229,4 +229,15 @@ class ContainsTest extends TestCase {
         assertTrue(Linq.of(emps).contains(employeeClone, comparer));
         assertFalse(Linq.of(emps).contains(employeeOther, comparer));
     }
+
+    @Test
+    void testContainsPrimitiveArray() {
+        assertTrue(Linq.of(new int[]{1, 2, 3}).contains(2));
+        assertFalse(Linq.of(new int[]{1, 2, 3}).contains(null));
+        assertTrue(Linq.of(new long[]{1, 2, 3}).contains(3L));
+        assertTrue(Linq.of(new double[]{1, Double.NaN}).contains(Double.NaN));
+        assertFalse(Linq.of(new double[]{0.0}).contains(-0.0));
+        assertEquals(1, Linq.of(new int[]{1, 2, 2}).indexOf(2));
+        assertEquals(2, Linq.of(new long[]{1, 2, 2}).lastIndexOf(2L));
+    }
 }
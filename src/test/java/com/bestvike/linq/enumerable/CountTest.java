@@ -10,6 +10,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.Stack;
 
 /**
@@ -140,4 +144,20 @@ class CountTest extends TestCase {
         int count = Linq.of(depts).count(dept -> dept.employees.size() > 0);
         assertEquals(2, count);
     }
+
+    @Test
+    void testCountListModifiedDuringIteration() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(0, 1, 2, 3, 4));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(list).select(x -> x).count(x -> list.add(x)));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(list).where(x -> true).count(x -> list.add(x)));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(list).where(x -> true).select(x -> x).count(x -> list.add(x)));
+
+        //a partition checks the list bounds on every step, it sees elements added or removed by the predicate
+        List<Integer> grown = new ArrayList<>(Arrays.asList(0, 1, 2, 3, 4));
+        IEnumerable<Integer> partition = Linq.of(grown).skip(1);
+        assertIsType(ListPartition.class, partition);
+        assertEquals(6, partition.count(x -> x != 2 || grown.add(5) && grown.add(6)));
+        List<Integer> shrunk = new ArrayList<>(Arrays.asList(0, 1, 2, 3, 4));
+        assertEquals(2, Linq.of(shrunk).skip(1).count(x -> x != 2 || shrunk.remove(4) != null && shrunk.remove(3) != null));
+    }
 }
@@ -0,0 +1,77 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class DoubleEnumerableTest extends TestCase {
+    @Test
+    void SourceIsNull_ArgumentNullExceptionThrown() {
+        assertThrows(ArgumentNullException.class, () -> DoubleEnumerable.sum(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.ofDouble(new double[0]).where(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.ofDouble(new double[0]).select(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1.0, 2.0).selectToDouble(null));
+    }
+
+    @Test
+    void EmptySource() {
+        IDoubleEnumerable source = Linq.ofDouble(null);
+        assertEquals(0, source.count());
+        assertEquals(0.0, source.sum());
+        assertEquals(0, source.toDoubleArray().length);
+        assertThrows(InvalidOperationException.class, () -> source.min());
+        assertThrows(InvalidOperationException.class, () -> source.max());
+        assertThrows(InvalidOperationException.class, () -> source.average());
+        assertThrows(InvalidOperationException.class, () -> source.variance());
+    }
+
+    @Test
+    void Aggregates() {
+        IDoubleEnumerable source = Linq.ofDouble(new double[]{2.5, -1.5, 4.0, 3.0});
+        assertEquals(8.0, source.sum());
+        assertEquals(-1.5, source.min());
+        assertEquals(4.0, source.max());
+        assertEquals(2.0, source.average());
+        assertTrue(Math.abs(source.variance() - 4.375) < 1e-12);
+        assertEquals(4, source.count());
+
+        IDoubleEnumerable filtered = source.where(x -> x > 0);
+        assertEquals(9.5, filtered.sum());
+        assertEquals(2.5, filtered.min());
+        assertEquals(4.0, filtered.max());
+        assertEquals(3, filtered.count());
+    }
+
+    @Test
+    void NaN() {
+        double[] array = {1.0, Double.NaN, 3.0};
+        // same results as the boxed minDouble and maxDouble
+        assertEquals(Linq.of(array).minDouble(), Linq.ofDouble(array).min());
+        assertEquals(Linq.of(array).maxDouble(), Linq.ofDouble(array).max());
+        assertEquals(Linq.of(array).minDouble(), Linq.ofDouble(array).where(x -> true).min());
+        assertEquals(Linq.of(array).maxDouble(), Linq.ofDouble(array).where(x -> true).max());
+        assertEquals(Double.NaN, Linq.ofDouble(new double[]{Double.NaN, Double.NaN}).max());
+    }
+
+    @Test
+    void Pipeline() {
+        double[] array = {0.5, -0.0, 0.0, Double.NaN, 0.5, Double.NaN, -2.25};
+        assertEquals(Linq.of(array).distinct(), Linq.ofDouble(array).distinct().boxed());
+        assertEquals(Linq.of(array).orderBy(x -> x), Linq.ofDouble(array).orderBy().boxed());
+        assertEquals(Linq.of(array).orderByDescending(x -> x), Linq.ofDouble(array).orderByDescending().boxed());
+        assertEquals(Linq.of(1.0, -0.0, 0.0, 1.0), Linq.of(Linq.ofDouble(array).select(x -> x * 2).where(x -> x <= 1.0 && x > -1).toDoubleArray()));
+    }
+
+    @Test
+    void Conversions() {
+        assertEquals(Linq.of(1.0, 2.0, 3.0), Linq.rangeInt(1, 3).asDoubleEnumerable().boxed());
+        assertEquals(Linq.of(1.0, 2.0), Linq.ofLong(new long[]{1, 2}).asDoubleEnumerable().boxed());
+        assertEquals(1.5, Linq.of("a", "bb").selectToDouble(String::length).average());
+    }
+}
@@ -8,6 +8,7 @@ import com.bestvike.function.Func2;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.Linq;
+import com.bestvike.linq.debug.DebugView;
 import com.bestvike.linq.entity.Department;
 import com.bestvike.linq.entity.Employee;
 import com.bestvike.linq.exception.ArgumentNullException;
@@ -410,6 +411,21 @@ class GroupJoinTest extends TestCase {
         assertEquals("[[Fred, Bill, Eric, Janet, Cedric] work(s) in Sales, [Fred, Bill, Eric, Janet, Cedric] work(s) in HR, [Fred, Bill, Eric, Janet, Cedric] work(s) in Marketing, [] work(s) in Manager]", s);
     }
 
+    @Test
+    void testGroupJoinBuildSide() {
+        IEnumerable<Integer> outer = Linq.of(1, null, 3, 42, 1);
+        IEnumerable<Integer> inner = Linq.range(0, 100).select(x -> x % 10);
+        IEnumerable<Integer> counts = outer.groupJoin(inner, x -> x, x -> x, (o, g) -> g.count());
+        assertEquals("Build = pending", DebugView.getDebuggerDisplayText(counts));
+        IEnumerator<Integer> e = counts.enumerator();
+        assertTrue(e.moveNext());
+        assertEquals("Build = outer", DebugView.getDebuggerDisplayText(e));
+        e.close();
+        assertEquals(Linq.of(10, 0, 10, 0, 10), counts);
+        assertEquals(ForceNotCollection(outer).groupJoin(inner, x -> x, x -> x, (o, g) -> g.count()), counts);
+        assertEquals(Linq.empty(), Linq.<Integer>empty().groupJoin(inner, x -> x, x -> x, (o, g) -> g.count()));
+    }
+
     //struct
     private static final class CustomerRec extends ValueType {
         final String name;
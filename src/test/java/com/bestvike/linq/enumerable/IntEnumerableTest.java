@@ -0,0 +1,114 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.IIntEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class IntEnumerableTest extends TestCase {
+    @Test
+    void SourceIsNull_ArgumentNullExceptionThrown() {
+        assertThrows(ArgumentNullException.class, () -> IntEnumerable.sum(null));
+        assertThrows(ArgumentNullException.class, () -> IntEnumerable.where(null, x -> true));
+        assertThrows(ArgumentNullException.class, () -> Linq.ofInt(new int[0]).where(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.ofInt(new int[0]).select(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1, 2).selectToInt(null));
+    }
+
+    @Test
+    void EmptySource() {
+        IIntEnumerable source = Linq.ofInt(null);
+        assertEquals(0, source.count());
+        assertEquals(0, source.sum());
+        assertEquals(0, source.toIntArray().length);
+        assertThrows(InvalidOperationException.class, () -> source.min());
+        assertThrows(InvalidOperationException.class, () -> source.max());
+        assertThrows(InvalidOperationException.class, () -> source.average());
+        assertThrows(InvalidOperationException.class, () -> source.where(x -> x > 0).min());
+    }
+
+    @Test
+    void Range() {
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.rangeInt(1, -1));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.rangeInt(Integer.MAX_VALUE, 2));
+        assertEquals(Linq.range(Integer.MAX_VALUE, 1), Linq.rangeInt(Integer.MAX_VALUE, 1).boxed());
+        assertEquals(5050, Linq.rangeInt(1, 100).sum());
+        assertEquals(100, Linq.rangeInt(1, 100).count());
+        assertEquals(Linq.range(-3, 7), Linq.of(Linq.rangeInt(-3, 7).toIntArray()));
+    }
+
+    @Test
+    void Aggregates() {
+        IIntEnumerable source = Linq.ofInt(new int[]{5, -3, 9, 0, 2});
+        assertEquals(13, source.sum());
+        assertEquals(-3, source.min());
+        assertEquals(9, source.max());
+        assertEquals(2.6, source.average());
+        assertEquals(5, source.count());
+        assertThrows(ArithmeticException.class, () -> Linq.ofInt(new int[]{Integer.MAX_VALUE, 1}).sum());
+        assertEquals((double) Integer.MAX_VALUE, Linq.ofInt(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}).average());
+
+        IIntEnumerable filtered = source.where(x -> x != 9);
+        assertEquals(4, filtered.sum());
+        assertEquals(-3, filtered.min());
+        assertEquals(5, filtered.max());
+        assertEquals(1.0, filtered.average());
+        assertEquals(4, filtered.count());
+    }
+
+    @Test
+    void Pipeline() {
+        IIntEnumerable query = Linq.ofInt(new int[]{3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5, 0})
+                .where(x -> x % 2 == 1 || x == 0)
+                .select(x -> x * 10)
+                .distinct();
+        assertEquals(Linq.of(30, 10, 50, 90, 0), query.boxed());
+        assertEquals(Linq.of(0, 10, 30, 50, 90), Linq.of(query.orderBy().toIntArray()));
+        assertEquals(Linq.of(90, 50, 30, 10, 0), query.orderByDescending().boxed());
+        assertEquals(180, query.sum());
+    }
+
+    @Test
+    void SelectToInt() {
+        IEnumerable<String> source = Linq.of("a", "bb", "ccc");
+        IIntEnumerable lengths = source.selectToInt(String::length);
+        assertEquals(6, lengths.sum());
+        assertEquals(Linq.of(1, 2, 3), lengths.boxed());
+        assertEquals(Linq.of(3, 2, 1), lengths.orderByDescending().boxed());
+    }
+
+    @Test
+    void Distinct() {
+        int[] array = new int[10000];
+        for (int i = 0; i < array.length; i++)
+            array[i] = (i % 1000) * (i % 2 == 0 ? 1 : -1);
+        assertEquals(Linq.of(array).distinct(), Linq.ofInt(array).distinct().boxed());
+    }
+
+    @Test
+    void Enumerator() {
+        IIntEnumerable source = Linq.rangeInt(0, 3).select(x -> x + 1);
+        try (IIntEnumerator e = source.enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals(1, e.current());
+            try (IIntEnumerator e2 = source.enumerator()) {
+                assertTrue(e2.moveNext());
+                assertEquals(1, e2.current());
+            }
+            assertTrue(e.moveNext());
+            assertEquals(2, e.current());
+            assertTrue(e.moveNext());
+            assertEquals(3, e.current());
+            assertFalse(e.moveNext());
+            assertFalse(e.moveNext());
+        }
+    }
+}
@@ -4,17 +4,25 @@ import com.bestvike.TestCase;
 import com.bestvike.ValueType;
 import com.bestvike.collections.generic.EqualityComparer;
 import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
+import com.bestvike.linq.IElementCodec;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.Linq;
+import com.bestvike.linq.debug.DebugView;
 import com.bestvike.linq.entity.Department;
 import com.bestvike.linq.entity.Employee;
 import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import com.bestvike.tuple.Tuple;
 import com.bestvike.tuple.Tuple2;
 import org.junit.jupiter.api.Test;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
 
 /**
@@ -866,6 +874,107 @@ class JoinTest extends TestCase {
         }
     }
 
+    @Test
+    void testJoinSpillToDisk() {
+        IElementCodec<Integer> codec = new IElementCodec<Integer>() {
+            @Override
+            public void encode(DataOutput output, Integer element) throws IOException {
+                output.writeBoolean(element != null);
+                if (element != null)
+                    output.writeInt(element);
+            }
+
+            @Override
+            public Integer decode(DataInput input) throws IOException {
+                return input.readBoolean() ? input.readInt() : null;
+            }
+        };
+        IEnumerable<Integer> outer = ForceNotCollection(Linq.range(0, 1000).select(x -> x % 13 == 0 ? null : x));
+        IEnumerable<Integer> inner = ForceNotCollection(Linq.range(0, 600).select(x -> x % 17 == 0 ? null : x * 3));
+        Func1<Integer, Integer> outerKey = x -> x == null ? null : x % 300;
+        Func1<Integer, Integer> innerKey = x -> x == null ? null : x % 300;
+        Func2<Integer, Integer, String> result = (o, i) -> o + ":" + i;
+        File tmp = new File(System.getProperty("java.io.tmpdir"));
+        int files = Linq.of(tmp.list()).count(name -> name.startsWith("linq-join-"));
+
+        for (int max : new int[]{10, 599, 100000}) {
+            assertEquals(outer.join(inner, outerKey, innerKey, result).orderBy(x -> x), outer.join(inner, outerKey, innerKey, result, codec, codec, max).orderBy(x -> x));
+            assertEquals(outer.leftJoin(inner, outerKey, innerKey, result).orderBy(x -> x), outer.leftJoin(inner, outerKey, innerKey, result, codec, codec, max).orderBy(x -> x));
+            assertEquals(outer.leftJoin(inner, outerKey, innerKey, -1, result, null).orderBy(x -> x), outer.leftJoin(inner, outerKey, innerKey, -1, result, null, codec, codec, max).orderBy(x -> x));
+        }
+        //all inner elements share one key, partitions can not be split below the budget
+        assertEquals(outer.join(inner, x -> 1, x -> 1, result).count(), outer.join(inner, x -> 1, x -> 1, result, codec, codec, 10).count());
+        assertEquals(Linq.empty(), outer.join(Linq.<Integer>empty(), outerKey, innerKey, result, codec, codec, 1));
+        assertEquals(outer.count(), outer.leftJoin(Linq.<Integer>empty(), outerKey, innerKey, result, codec, codec, 1).count());
+
+        //keys that differ only in their high bits still spread over the partitions
+        Func1<Integer, Integer> highKey = x -> x == null ? null : (x % 300) << 20;
+        assertEquals(outer.join(inner, highKey, highKey, result).orderBy(x -> x), outer.join(inner, highKey, highKey, result, codec, codec, 10).orderBy(x -> x));
+
+        IEnumerator<String> e = outer.join(inner, outerKey, innerKey, result, codec, codec, 10).enumerator();
+        assertTrue(e.moveNext());
+        e.close();
+        assertEquals(files, Linq.of(tmp.list()).count(name -> name.startsWith("linq-join-")));
+
+        //spill files are removed when a key selector or the codec fails part way
+        Func1<Integer, Integer> failingKey = x -> {
+            if (x != null && x == 501)
+                throw new IllegalStateException();
+            return outerKey.apply(x);
+        };
+        assertThrows(IllegalStateException.class, () -> outer.join(inner, outerKey, failingKey, result, codec, codec, 10).count());
+        assertThrows(IllegalStateException.class, () -> outer.join(inner, failingKey, innerKey, result, codec, codec, 10).count());
+        assertThrows(IllegalStateException.class, () -> outer.join(inner, failingKey, innerKey, result, codec, codec, 590).count());
+        IElementCodec<Integer> failingCodec = new IElementCodec<Integer>() {
+            @Override
+            public void encode(DataOutput output, Integer element) throws IOException {
+                if (element != null && element == 900)
+                    throw new IOException();
+                codec.encode(output, element);
+            }
+
+            @Override
+            public Integer decode(DataInput input) throws IOException {
+                return codec.decode(input);
+            }
+        };
+        assertThrows(RuntimeException.class, () -> outer.join(inner, outerKey, innerKey, result, failingCodec, codec, 10).count());
+        assertThrows(RuntimeException.class, () -> outer.join(inner, outerKey, innerKey, result, codec, failingCodec, 10).count());
+        assertEquals(files, Linq.of(tmp.list()).count(name -> name.startsWith("linq-join-")));
+
+        assertThrows(ArgumentNullException.class, () -> outer.join(inner, outerKey, innerKey, result, null, codec, 1));
+        assertThrows(ArgumentNullException.class, () -> outer.join(inner, outerKey, innerKey, result, codec, null, 1));
+        assertThrows(ArgumentOutOfRangeException.class, () -> outer.join(inner, outerKey, innerKey, result, codec, codec, 0));
+    }
+
+    @Test
+    void testJoinBuildSide() {
+        IEnumerable<Integer> outer = Linq.range(0, 10).select(x -> x * 100);
+        IEnumerable<Integer> inner = Linq.range(0, 1000).select(x -> x % 500);
+        int[] keyCalls = {0};
+        Func1<Integer, Integer> outerKey = x -> {
+            keyCalls[0]++;
+            return x;
+        };
+        IEnumerable<String> joined = outer.join(inner, outerKey, x -> x, (o, i) -> o + ":" + i);
+        assertEquals("Build = pending", DebugView.getDebuggerDisplayText(joined));
+        assertEquals("Build = outer", DebugView.getDebuggerDisplayText(started(joined)));
+        assertEquals("Build = inner", DebugView.getDebuggerDisplayText(started(inner.join(outer, x -> x, outerKey, (i, o) -> i + ":" + o))));
+        assertEquals("Build = inner", DebugView.getDebuggerDisplayText(started(ForceNotCollection(outer).join(inner, outerKey, x -> x, (o, i) -> o + ":" + i))));
+        keyCalls[0] = 0;
+        assertEquals(Linq.of("0:0", "0:0", "100:100", "100:100", "200:200", "200:200", "300:300", "300:300", "400:400", "400:400"), joined);
+        assertEquals(10, keyCalls[0]);
+        assertEquals(ForceNotCollection(outer).join(inner, x -> x, x -> x, (o, i) -> o + ":" + i), joined);
+        assertEquals(Linq.empty(), Linq.of(600, 700).join(inner, x -> x, x -> x, (o, i) -> o + ":" + i));
+        assertEquals(Linq.of("600:null", "700:null"), Linq.of(600, 700).leftJoin(inner, x -> x, x -> x, (o, i) -> o + ":" + i));
+    }
+
+    private static <T> IEnumerator<T> started(IEnumerable<T> source) {
+        IEnumerator<T> e = source.enumerator();
+        assertTrue(e.moveNext());
+        return e;
+    }
+
     //struct
     private static final class CustomerRec extends ValueType {
         final String name;
@@ -0,0 +1,71 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class LongEnumerableTest extends TestCase {
+    @Test
+    void SourceIsNull_ArgumentNullExceptionThrown() {
+        assertThrows(ArgumentNullException.class, () -> LongEnumerable.sum(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.ofLong(new long[0]).where(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.ofLong(new long[0]).select(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1L, 2L).selectToLong(null));
+    }
+
+    @Test
+    void EmptySource() {
+        ILongEnumerable source = Linq.ofLong(null);
+        assertEquals(0, source.count());
+        assertEquals(0L, source.sum());
+        assertEquals(0, source.toLongArray().length);
+        assertThrows(InvalidOperationException.class, () -> source.min());
+        assertThrows(InvalidOperationException.class, () -> source.max());
+        assertThrows(InvalidOperationException.class, () -> source.average());
+        assertThrows(InvalidOperationException.class, () -> source.variance());
+    }
+
+    @Test
+    void Aggregates() {
+        ILongEnumerable source = Linq.ofLong(new long[]{2, 4, 4, 4, 5, 5, 7, 9});
+        assertEquals(40L, source.sum());
+        assertEquals(2L, source.min());
+        assertEquals(9L, source.max());
+        assertEquals(5.0, source.average());
+        assertEquals(4.0, source.variance());
+        assertEquals(8, source.count());
+        assertThrows(ArithmeticException.class, () -> Linq.ofLong(new long[]{Long.MAX_VALUE, 1}).sum());
+
+        ILongEnumerable filtered = source.where(x -> x > 4);
+        assertEquals(26L, filtered.sum());
+        assertEquals(5L, filtered.min());
+        assertEquals(9L, filtered.max());
+        assertEquals(6.5, filtered.average());
+        assertEquals(4, filtered.count());
+    }
+
+    @Test
+    void Pipeline() {
+        long base = 1_600_000_000_000L;
+        ILongEnumerable query = Linq.ofLong(new long[]{base + 30, base + 10, base + 30, base + 20, base})
+                .select(x -> x - base)
+                .distinct();
+        assertEquals(Linq.of(30L, 10L, 20L, 0L), query.boxed());
+        assertEquals(Linq.of(0L, 10L, 20L, 30L), Linq.of(query.orderBy().toLongArray()));
+        assertEquals(Linq.of(30L, 20L, 10L, 0L), query.orderByDescending().boxed());
+        assertEquals(Linq.of(30.0, 10.0, 20.0, 0.0), query.asDoubleEnumerable().boxed());
+    }
+
+    @Test
+    void Conversions() {
+        assertEquals(Linq.of(1L, 2L, 3L), Linq.rangeInt(1, 3).asLongEnumerable().boxed());
+        assertEquals(6L, Linq.of("a", "bb", "ccc").selectToLong(String::length).sum());
+        assertEquals((long) Integer.MAX_VALUE * 2, Linq.ofInt(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}).asLongEnumerable().sum());
+    }
+}
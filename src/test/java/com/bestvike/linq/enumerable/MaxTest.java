@@ -948,6 +948,16 @@ class MaxTest extends TestCase {
         assertEquals(null, f2);
     }
 
+    @Test
+    void testMaxPrimitiveArray() {
+        assertEquals(9, Linq.of(new int[]{5, -3, 9}).maxInt());
+        assertEquals(9L, Linq.of(new long[]{5, -3, 9}).maxLong());
+        assertEquals(9.5, Linq.of(new double[]{5, -3, 9.5}).maxDouble());
+        assertEquals(5.0, Linq.of(new double[]{Double.NaN, 5, Double.NaN}).maxDouble());
+        assertEquals(Double.NaN, Linq.of(new double[]{Double.NaN, Double.NaN}).maxDouble());
+        assertThrows(InvalidOperationException.class, () -> Linq.of(new long[0]).maxLong());
+    }
+
     private static class NameNum<T> extends ValueType {
         private final String name;
         private final T num;
@@ -0,0 +1,119 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IMemoizedEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class MemoizeTest extends TestCase {
+    @Test
+    void SourceNull() {
+        assertThrows(ArgumentNullException.class, () -> Memoize.memoize(null));
+        assertThrows(ArgumentNullException.class, () -> Memoize.memoize(null, true));
+    }
+
+    @Test
+    void PullsEachElementOnce() {
+        AtomicInteger pulled = new AtomicInteger();
+        IMemoizedEnumerable<Integer> source = Linq.range(0, 200).select(x -> {
+            pulled.incrementAndGet();
+            return x * 2;
+        }).memoize();
+        assertEquals(0, pulled.get());
+        assertEquals(0, source.first());
+        assertEquals(1, pulled.get());
+        assertEquals(200, source.count());
+        assertEquals(Linq.range(0, 200).select(x -> x * 2), source);
+        assertEquals(398, source.last());
+        assertEquals(200, pulled.get());
+    }
+
+    @Test
+    void InterleavedEnumerators() {
+        AtomicInteger pulled = new AtomicInteger();
+        IMemoizedEnumerable<Integer> source = Linq.range(0, 100).select(x -> {
+            pulled.incrementAndGet();
+            return x;
+        }).memoize();
+        try (IEnumerator<Integer> e1 = source.enumerator();
+             IEnumerator<Integer> e2 = source.enumerator()) {
+            assertTrue(e1.moveNext());
+            assertTrue(e1.moveNext());
+            assertTrue(e2.moveNext());
+            assertEquals(1, e1.current());
+            assertEquals(0, e2.current());
+            assertEquals(2, pulled.get());
+        }
+        assertEquals(Linq.range(0, 100), source);
+        assertEquals(100, pulled.get());
+    }
+
+    @Test
+    void CloseReleasesCache() {
+        AtomicInteger pulled = new AtomicInteger();
+        IMemoizedEnumerable<Integer> source = Linq.range(0, 10).select(x -> {
+            pulled.incrementAndGet();
+            return x;
+        }).memoize();
+        assertEquals(10, source.count());
+        source.close();
+        assertEquals(10, source.count());
+        assertEquals(20, pulled.get());
+    }
+
+    @Test
+    void ErrorIsReplayed() {
+        AtomicInteger pulled = new AtomicInteger();
+        IEnumerable<Integer> source = Linq.range(0, 10).select(x -> {
+            pulled.incrementAndGet();
+            if (x == 5)
+                throw new IllegalStateException();
+            return x;
+        }).memoize();
+        assertThrows(IllegalStateException.class, () -> source.count());
+        assertEquals(Linq.range(0, 5), source.take(5));
+        assertThrows(IllegalStateException.class, () -> source.last());
+        assertEquals(6, pulled.get());
+    }
+
+    @Test
+    void SameInstance() {
+        IMemoizedEnumerable<Integer> source = Linq.range(0, 10).memoize();
+        assertSame(source, source.memoize());
+        assertNotSame(source, source.memoize(true));
+        IMemoizedEnumerable<Integer> threadSafe = source.memoize(true);
+        assertTrue(threadSafe.isThreadSafe());
+        assertSame(threadSafe, threadSafe.memoize());
+    }
+
+    @Test
+    void testMemoizeThreadSafe() throws Exception {
+        AtomicInteger pulled = new AtomicInteger();
+        IMemoizedEnumerable<Integer> source = Linq.range(0, 10000).select(x -> {
+            pulled.incrementAndGet();
+            return x;
+        }).memoize(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int i = 0; i < futures.length; i++)
+                futures[i] = executor.submit(() -> assertEquals(Linq.range(0, 10000), source));
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(10000, pulled.get());
+    }
+}
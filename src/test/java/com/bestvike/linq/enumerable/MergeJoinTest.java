@@ -0,0 +1,88 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class MergeJoinTest extends TestCase {
+    private static final IEnumerable<Integer> OUTER = Linq.of(null, null, 1, 2, 2, 4, 5, 5, 5, 8, 9);
+    private static final IEnumerable<Integer> INNER = Linq.of(null, 0, 2, 2, 3, 5, 6, 8, 8, 10);
+    private static final Func1<Integer, Integer> KEY = x -> x;
+    private static final Func2<Integer, Integer, String> RESULT = (o, i) -> o + ":" + i;
+
+    @Test
+    void OuterIsNull() {
+        assertThrows(ArgumentNullException.class, () -> MergeJoin.mergeJoin(null, INNER, KEY, KEY, RESULT));
+        assertThrows(ArgumentNullException.class, () -> OUTER.mergeJoin(null, KEY, KEY, RESULT));
+        assertThrows(ArgumentNullException.class, () -> OUTER.leftMergeJoin(INNER, null, KEY, RESULT));
+        assertThrows(ArgumentNullException.class, () -> OUTER.rightMergeJoin(INNER, KEY, null, RESULT));
+        assertThrows(ArgumentNullException.class, () -> OUTER.fullMergeJoin(INNER, KEY, KEY, (Func2<Integer, Integer, String>) null));
+    }
+
+    @Test
+    void MatchesHashJoin() {
+        assertEquals(OUTER.join(INNER, KEY, KEY, RESULT), OUTER.mergeJoin(INNER, KEY, KEY, RESULT));
+        assertEquals(OUTER.leftJoin(INNER, KEY, KEY, RESULT), OUTER.leftMergeJoin(INNER, KEY, KEY, RESULT));
+        assertEquals(OUTER.leftJoin(INNER, KEY, KEY, -1, RESULT), OUTER.leftMergeJoin(INNER, KEY, KEY, -1, RESULT));
+        assertEquals(OUTER.rightJoin(INNER, KEY, KEY, RESULT).orderBy(x -> x), OUTER.rightMergeJoin(INNER, KEY, KEY, RESULT).orderBy(x -> x));
+        assertEquals(OUTER.rightJoin(INNER, KEY, KEY, -1, RESULT).orderBy(x -> x), OUTER.rightMergeJoin(INNER, KEY, KEY, -1, RESULT).orderBy(x -> x));
+        assertEquals(OUTER.fullJoin(INNER, KEY, KEY, RESULT).orderBy(x -> x), OUTER.fullMergeJoin(INNER, KEY, KEY, RESULT).orderBy(x -> x));
+        assertEquals(OUTER.fullJoin(INNER, KEY, KEY, -1, -2, RESULT).orderBy(x -> x), OUTER.fullMergeJoin(INNER, KEY, KEY, -1, -2, RESULT).orderBy(x -> x));
+    }
+
+    @Test
+    void FullMergeJoinFollowsKeyOrder() {
+        assertEquals(Linq.of("0:null", "null:1", "2:2", "null:3", "4:null"), Linq.of(0, 2, 4).fullMergeJoin(Linq.of(1, 2, 3), KEY, KEY, RESULT));
+    }
+
+    @Test
+    void DuplicateRuns() {
+        assertEquals(Linq.of("2:2", "2:2", "2:2", "2:2", "5:5", "5:5", "5:5", "8:8", "8:8"), OUTER.mergeJoin(INNER, KEY, KEY, RESULT));
+    }
+
+    @Test
+    void CustomComparer() {
+        Comparator<Integer> descending = (x, y) -> Integer.compare(y, x);
+        IEnumerable<Integer> outer = Linq.range(0, 100).select(x -> 100 - x);
+        IEnumerable<Integer> inner = Linq.range(0, 50).select(x -> 150 - x * 3);
+        assertEquals(outer.join(inner, KEY, KEY, RESULT), outer.mergeJoin(inner, KEY, KEY, RESULT, descending));
+        assertEquals(outer.leftJoin(inner, KEY, KEY, RESULT), outer.leftMergeJoin(inner, KEY, KEY, RESULT, descending));
+    }
+
+    @Test
+    void EmptySides() {
+        assertEquals(Linq.empty(), Linq.<Integer>empty().mergeJoin(INNER, KEY, KEY, RESULT));
+        assertEquals(Linq.empty(), OUTER.mergeJoin(Linq.empty(), KEY, KEY, RESULT));
+        assertEquals(OUTER.select(x -> x + ":null"), OUTER.leftMergeJoin(Linq.empty(), KEY, KEY, RESULT));
+        assertEquals(INNER.select(x -> "null:" + x), Linq.<Integer>empty().rightMergeJoin(INNER, KEY, KEY, RESULT));
+    }
+
+    @Test
+    void ForcedCloseAfterFirst() {
+        IEnumerable<String> source = OUTER.fullMergeJoin(INNER, KEY, KEY, RESULT);
+        try (IEnumerator<String> e = source.enumerator()) {
+            assertTrue(e.moveNext());
+            e.close();
+            assertFalse(e.moveNext());
+        }
+        assertEquals(source.count(), source.toList().size());
+    }
+
+    @Test
+    void testMergeJoin() {
+        IEnumerable<Integer> minutes = Linq.range(0, 10000);
+        IEnumerable<Integer> samples = Linq.range(0, 5000).select(x -> x * 2);
+        assertEquals(5000, minutes.mergeJoin(samples, x -> x, x -> x, (m, s) -> m).count());
+        assertEquals(10000, minutes.leftMergeJoin(samples, x -> x, x -> x, (m, s) -> m).count());
+    }
+}
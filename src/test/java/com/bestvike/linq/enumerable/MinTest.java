@@ -931,6 +931,16 @@ class MinTest extends TestCase {
         assertEquals(null, f2);
     }
 
+    @Test
+    void testMinPrimitiveArray() {
+        assertEquals(-3, Linq.of(new int[]{5, -3, 9}).minInt());
+        assertEquals(-3L, Linq.of(new long[]{5, -3, 9}).minLong());
+        assertEquals(-3.5, Linq.of(new double[]{5, -3.5, 9}).minDouble());
+        assertEquals(Double.NaN, Linq.of(new double[]{5, Double.NaN, -9}).minDouble());
+        assertThrows(InvalidOperationException.class, () -> Linq.of(new int[0]).minInt());
+        assertThrows(InvalidOperationException.class, () -> Linq.of(new double[0]).minDouble());
+    }
+
     private static class NameNum<T> extends ValueType {
         private final String name;
         private final T num;
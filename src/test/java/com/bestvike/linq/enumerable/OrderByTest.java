@@ -7,11 +7,13 @@ import com.bestvike.collections.generic.Array;
 import com.bestvike.collections.generic.Comparer;
 import com.bestvike.collections.generic.StringComparer;
 import com.bestvike.function.Func1;
+import com.bestvike.linq.IElementCodec;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.IOrderedEnumerable;
 import com.bestvike.linq.Linq;
 import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import com.bestvike.linq.exception.InvalidOperationException;
 import com.bestvike.linq.util.ArgsList;
 import com.bestvike.ref;
@@ -21,6 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -29,6 +34,7 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Created by 许崇雷 on 2018-05-10.
@@ -246,6 +252,13 @@ class OrderByTest extends TestCase {
         assertEquals(Linq.of(expected), Linq.of(source).orderBy(e -> e, new BadComparer1()));
     }
 
+    @Test
+    void SurviveBadComparerLargeSource() {
+        IEnumerable<Integer> source = Linq.range(0, 1000).select(x -> (x * 7919) % 1000);
+        assertEquals(Linq.range(0, 1000), source.orderBy(e -> e, new BadComparer1()).orderBy(e -> e));
+        assertEquals(Linq.range(0, 1000), source.orderBy(e -> e, new BadComparer2()).orderBy(e -> e));
+    }
+
     @Test
     void OrderByExtremeComparer() {
         int[] outOfOrder = new int[]{7, 1, 0, 9, 3, 5, 4, 2, 8, 6};
@@ -661,6 +674,152 @@ class OrderByTest extends TestCase {
     }
 
 
+    @ParameterizedTest
+    @MethodSource("SortsRandomizedEnumerableCorrectly_TestData")
+    void testOrderByInt(int items) {
+        Random r = new Random(42);
+        Tuple2<Integer, Integer>[] source = Linq.range(0, items).select(i -> Tuple.create(r.nextInt(items / 4 + 1) - items / 8, i)).toArray((Class<Tuple2<Integer, Integer>>) (Class<?>) Tuple2.class);
+
+        assertEquals(Linq.of(source).orderBy(t -> t.getItem1()), Linq.of(source).orderByInt(t -> t.getItem1()));
+        assertEquals(Linq.of(source).orderByDescending(t -> t.getItem1()), Linq.of(source).orderByIntDescending(t -> t.getItem1()));
+        assertEquals(Linq.of(source).orderBy(t -> t.getItem1()).take(items / 2), Linq.of(source).orderByInt(t -> t.getItem1()).take(items / 2));
+        assertEquals(Linq.of(source).orderBy(t -> t.getItem1() % 7).thenByDescending(t -> t.getItem1()), Linq.of(source).orderByInt(t -> t.getItem1() % 7).thenByIntDescending(t -> t.getItem1()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("SortsRandomizedEnumerableCorrectly_TestData")
+    void testOrderByLong(int items) {
+        Random r = new Random(42);
+        Long[] source = Linq.range(0, items).select(i -> i % 3 == 0 ? r.nextLong() : r.nextInt(16)).toArray(Long.class);
+
+        assertEquals(Linq.of(source).orderBy(x -> x), Linq.of(source).orderByLong(x -> x));
+        assertEquals(Linq.of(source).orderByDescending(x -> x), Linq.of(source).orderByLongDescending(x -> x));
+        assertEquals(Linq.of(source).orderBy(x -> x & 1).thenBy(x -> x), Linq.of(source).orderByLong(x -> x & 1).thenByLong(x -> x));
+    }
+
+    @Test
+    void testOrderByDouble() {
+        Double[] source = {3.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -1.25, Double.POSITIVE_INFINITY, 0.0, Double.MIN_VALUE, -Double.MAX_VALUE};
+        Double[] expected = {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.25, -0.0, 0.0, 0.0, Double.MIN_VALUE, 3.5, Double.POSITIVE_INFINITY, Double.NaN};
+
+        assertEquals(Linq.of(expected), Linq.of(source).orderByDouble(x -> x));
+        assertEquals(Linq.of(expected).reverse(), Linq.of(source).orderByDoubleDescending(x -> x));
+        assertEquals(Double.NEGATIVE_INFINITY, Linq.of(source).orderByDouble(x -> x).first());
+        assertEquals(Double.NaN, Linq.of(source).orderByDouble(x -> x).last());
+
+        Random r = new Random(42);
+        Double[] randomized = Linq.range(0, 4096).select(i -> r.nextGaussian()).toArray(Double.class);
+        assertEquals(Linq.of(randomized).orderBy(x -> x), Linq.of(randomized).orderByDouble(x -> x));
+        assertEquals(Linq.of(randomized).orderByDescending(x -> x), Linq.of(randomized).orderByDoubleDescending(x -> x));
+
+        assertThrows(ArgumentNullException.class, () -> Linq.of(source).orderByDouble(null));
+    }
+
+    @Test
+    void testOrderByParallel() {
+        Random r = new Random(42);
+        Integer[] source = Linq.range(0, 200_000).select(i -> r.nextInt(1000)).toArray(Integer.class);
+
+        assertEquals(Linq.of(source).orderBy(x -> x % 10).thenByDescending(x -> x), Linq.of(source).orderBy(x -> x % 10).parallel().thenByDescending(x -> x));
+        assertEquals(Linq.of(source).orderByInt(x -> x), Linq.of(source).orderByInt(x -> x).parallel());
+        assertEquals(Linq.of(source).orderBy(x -> x).take(10), Linq.of(source).orderBy(x -> x).parallel().take(10));
+
+        AbstractEnumerableSorter<Integer> sorter = new EnumerableSorter<>(x -> x % 10, Comparer.Default(), false, new IntEnumerableSorter<>(x -> x, true, null));
+        assertEquals(Linq.of(sorter.sort(source, source.length)), Linq.of(sorter.parallelSort(source, source.length)));
+        AbstractEnumerableSorter<Integer> radixSorter = new IntEnumerableSorter<>(x -> x, false, null);
+        assertEquals(Linq.of(radixSorter.sort(source, source.length)), Linq.of(radixSorter.parallelSort(source, source.length)));
+    }
+
+    @Test
+    void testOrderBySpillToDisk() {
+        IElementCodec<Tuple2<Integer, String>> codec = new IElementCodec<Tuple2<Integer, String>>() {
+            @Override
+            public void encode(DataOutput output, Tuple2<Integer, String> element) throws IOException {
+                output.writeInt(element.getItem1());
+                output.writeUTF(element.getItem2());
+            }
+
+            @Override
+            public Tuple2<Integer, String> decode(DataInput input) throws IOException {
+                return Tuple.create(input.readInt(), input.readUTF());
+            }
+        };
+        Random r = new Random(42);
+        IEnumerable<Tuple2<Integer, String>> source = ForceNotCollection(Linq.of(Linq.range(0, 5000).select(i -> Tuple.create(r.nextInt(50), "item" + i)).toList()));
+
+        IOrderedEnumerable<Tuple2<Integer, String>> expected = source.orderBy(t -> t.getItem1());
+        assertEquals(expected, source.orderBy(t -> t.getItem1()).spillToDisk(codec, 128));
+        assertEquals(expected, source.orderBy(t -> t.getItem1()).spillToDisk(codec, 1));
+        assertEquals(expected, source.orderBy(t -> t.getItem1()).spillToDisk(codec, 10000));
+        assertEquals(expected.thenByDescending(t -> t.getItem2()), source.orderBy(t -> t.getItem1()).spillToDisk(codec, 333).thenByDescending(t -> t.getItem2()));
+        assertEquals(expected.take(10), source.orderBy(t -> t.getItem1()).spillToDisk(codec, 128).take(10));
+        assertEmpty(Linq.<Tuple2<Integer, String>>empty().orderBy(t -> t.getItem1()).spillToDisk(codec, 128));
+
+        assertThrows(ArgumentNullException.class, () -> source.orderBy(t -> t.getItem1()).spillToDisk(null, 128));
+        assertThrows(ArgumentOutOfRangeException.class, () -> source.orderBy(t -> t.getItem1()).spillToDisk(codec, 0));
+
+        //terminal operators and partitions of a spilling query go through the runs on disk as well
+        AtomicInteger encoded = new AtomicInteger();
+        IElementCodec<Tuple2<Integer, String>> counting = new IElementCodec<Tuple2<Integer, String>>() {
+            @Override
+            public void encode(DataOutput output, Tuple2<Integer, String> element) throws IOException {
+                encoded.incrementAndGet();
+                codec.encode(output, element);
+            }
+
+            @Override
+            public Tuple2<Integer, String> decode(DataInput input) throws IOException {
+                return codec.decode(input);
+            }
+        };
+        IOrderedEnumerable<Tuple2<Integer, String>> spilling = source.orderBy(t -> t.getItem1()).spillToDisk(counting, 128);
+        assertEquals(expected.toList(), spilling.toList());
+        assertEquals(5000, encoded.getAndSet(0));
+        assertEquals(expected, Linq.of(spilling.toArray()));
+        assertEquals(5000, encoded.getAndSet(0));
+        assertEquals(expected, Linq.of(spilling.toArray((Class<Tuple2<Integer, String>>) (Class<?>) Tuple2.class)));
+        assertEquals(5000, encoded.getAndSet(0));
+        assertEquals(expected.skip(4990), spilling.skip(4990));
+        assertEquals(5000, encoded.getAndSet(0));
+        assertEquals(expected.skip(100).take(50).toList(), spilling.skip(100).take(50).toList());
+        assertEquals(5000, encoded.getAndSet(0));
+        assertEquals(expected.elementAt(2500), spilling.elementAt(2500));
+        assertEquals(expected.skip(10).take(20).last(), spilling.skip(10).take(20).last());
+        assertEquals(expected.last(), spilling.skip(10).last());
+        assertEmpty(spilling.skip(6000));
+        assertTrue(encoded.get() > 0);
+    }
+
+    @Test
+    void testOrderedEnumerableDefaultSpillToDisk() {
+        IOrderedEnumerable<Integer> custom = new IOrderedEnumerable<Integer>() {
+            @Override
+            public <TKey> IOrderedEnumerable<Integer> createOrderedEnumerable(Func1<Integer, TKey> keySelector, Comparator<TKey> comparer, boolean descending) {
+                return this;
+            }
+
+            @Override
+            public IEnumerator<Integer> enumerator() {
+                return Linq.range(0, 3).enumerator();
+            }
+        };
+        IElementCodec<Integer> codec = new IElementCodec<Integer>() {
+            @Override
+            public void encode(DataOutput output, Integer element) throws IOException {
+                output.writeInt(element);
+            }
+
+            @Override
+            public Integer decode(DataInput input) throws IOException {
+                return input.readInt();
+            }
+        };
+        assertSame(custom, custom.parallel());
+        assertSame(custom, custom.spillToDisk(codec, 1));
+        assertThrows(ArgumentNullException.class, () -> custom.spillToDisk(null, 1));
+        assertThrows(ArgumentOutOfRangeException.class, () -> custom.spillToDisk(codec, 0));
+    }
+
     private static class NameScore extends ValueType {
         private final String Name;
         private final int Score;
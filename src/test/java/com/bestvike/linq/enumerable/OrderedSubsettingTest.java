@@ -9,6 +9,8 @@ import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import com.bestvike.linq.exception.InvalidOperationException;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 /**
  * Created by 许崇雷 on 2019-05-24.
  */
@@ -442,4 +444,24 @@ class OrderedSubsettingTest extends TestCase {
         assertEquals(20, source.runOnce().orderBy(i -> i).skip(10).take(20).count());
         assertEquals(1, source.runOnce().orderBy(i -> i).take(2).skip(1).count());
     }
+
+    @Test
+    void TakeFromLargeSource() {
+        Random r = new Random(42);
+        Integer[] source = Linq.range(0, 20_000).select(i -> r.nextInt(500)).toArray(Integer.class);
+        Integer[] sorted = Linq.of(source).select((x, i) -> x * 100_000 + i).orderBy(x -> x).select(x -> source[x % 100_000]).toArray(Integer.class);
+        IEnumerable<Integer> ordered = ForceNotCollection(Linq.of(source)).orderBy(x -> x);
+
+        assertEquals(Linq.of(sorted).take(50), ordered.take(50));
+        assertEquals(Linq.of(sorted).take(50), Linq.of(ordered.take(50).toArray(Integer.class)));
+        assertEquals(Linq.of(sorted).take(50), Linq.of(ordered.take(50).toArray()));
+        assertEquals(Linq.of(sorted).take(50), Linq.of(ordered.take(50).toList()));
+        assertEquals(Linq.of(sorted).skip(10).take(1000), ordered.skip(10).take(1000));
+        assertEquals(sorted[777], ordered.elementAt(777));
+        assertEquals(sorted[99], ordered.take(100).last());
+        assertEquals(sorted[3], ordered.skip(3).take(1).single());
+
+        IEnumerable<Integer> ordered2 = ForceNotCollection(Linq.of(source).select((x, i) -> x * 100_000 + i)).orderByDescending(x -> x / 100_000).thenBy(x -> x % 7);
+        assertEquals(ordered2.toList().subList(0, 300), ordered2.take(300).toList());
+    }
 }
@@ -0,0 +1,255 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ILookup;
+import com.bestvike.linq.IParallelEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class ParallelEnumerableTest extends TestCase {
+    @Test
+    void SourceIsNull_ArgumentNullExceptionThrown() {
+        assertThrows(ArgumentNullException.class, () -> ParallelEnumerable.asParallel(null));
+        IParallelEnumerable<Integer> source = Linq.range(0, 10).asParallel();
+        assertThrows(ArgumentNullException.class, () -> source.where((Predicate1<Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> source.select((Func1<Integer, Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> source.selectMany((Func1<Integer, IEnumerable<Integer>>) null));
+        assertThrows(ArgumentNullException.class, () -> source.groupBy(null));
+        assertThrows(ArgumentNullException.class, () -> source.sumInt(null));
+        assertThrows(ArgumentNullException.class, () -> source.aggregate((Func0<Integer>) null, (a, b) -> a, (a, b) -> a));
+        assertThrows(ArgumentNullException.class, () -> source.aggregate(() -> 0, null, (Func2<Integer, Integer, Integer>) (a, b) -> a));
+        assertThrows(ArgumentNullException.class, () -> source.aggregate(() -> 0, (a, b) -> a, (Func2<Integer, Integer, Integer>) null));
+    }
+
+    @Test
+    void DegreeOfParallelismOutOfRange() {
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.range(0, 10).asParallel().withDegreeOfParallelism(0));
+        assertEquals(3, Linq.range(0, 10).asParallel().withDegreeOfParallelism(3).getDegreeOfParallelism());
+    }
+
+    @Test
+    void DegreeOfParallelismLimitsWorkers() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        IParallelEnumerable<Integer> source = Linq.range(0, 2000).asParallel().withDegreeOfParallelism(2).select(x -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            running.decrementAndGet();
+            return x;
+        });
+        assertEquals(2000, source.count());
+        assertTrue(peak.get() <= 2);
+    }
+
+    @Test
+    void AsParallelOfParallelIsSame() {
+        IParallelEnumerable<Integer> source = Linq.range(0, 10).asParallel();
+        assertSame(source, source.asParallel());
+        assertFalse(source.isOrdered());
+        assertTrue(source.asOrdered().isOrdered());
+        assertFalse(source.asOrdered().asUnordered().isOrdered());
+    }
+
+    @Test
+    void OrderedPreservesSourceOrder() {
+        IEnumerable<Integer> expected = Linq.range(0, 10000).where(x -> x % 3 == 0).select(x -> x * 2);
+        IEnumerable<Integer> actual = Linq.range(0, 10000).asParallel().asOrdered().withDegreeOfParallelism(4).where(x -> x % 3 == 0).select(x -> x * 2);
+        assertEquals(expected, actual);
+        assertEquals(expected.count(), actual.count());
+        assertEquals(expected.toList(), actual.toList());
+    }
+
+    @Test
+    void UnorderedYieldsSameElements() {
+        IEnumerable<Integer> expected = Linq.range(0, 10000).selectMany(x -> Linq.repeat(x, x % 3));
+        IParallelEnumerable<Integer> actual = Linq.range(0, 10000).asParallel().selectMany(x -> Linq.repeat(x, x % 3));
+        assertEquals(expected, actual.orderBy(x -> x));
+        assertEquals(expected.count(), actual.count());
+    }
+
+    @Test
+    void NonIndexableSource() {
+        IEnumerable<Integer> source = new TestEnumerable<>(Linq.range(0, 5000).toArray(Integer.class));
+        assertEquals(Linq.range(0, 5000).select(x -> x + 1), source.asParallel().asOrdered().select(x -> x + 1));
+        assertEquals(2500, source.where(x -> x % 2 == 0).asParallel().count());
+    }
+
+    @Test
+    void Distinct() {
+        IParallelEnumerable<Integer> source = Linq.range(0, 10000).asParallel().asOrdered().select(x -> x % 100);
+        assertEquals(Linq.range(0, 100), source.distinct());
+        assertEquals(100, source.asUnordered().distinct().count());
+        assertEquals(Linq.range(0, 100), source.distinct().select(x -> x));
+    }
+
+    @Test
+    void GroupBy() {
+        IParallelEnumerable<Integer> source = Linq.range(0, 10000).asParallel().asOrdered();
+        List<IGrouping<Integer, Integer>> groups = source.groupBy(x -> x % 7).toList();
+        assertEquals(7, groups.size());
+        for (int i = 0; i < 7; i++) {
+            IGrouping<Integer, Integer> group = groups.get(i);
+            assertEquals(i, group.getKey());
+            int k = i;
+            assertEquals(Linq.range(0, 10000).where(x -> x % 7 == k), group);
+        }
+    }
+
+    @Test
+    void GroupByElementSelector() {
+        IParallelEnumerable<Integer> source = Linq.range(0, 10000).asParallel().asOrdered().withDegreeOfParallelism(4);
+        IEnumerable<IGrouping<Integer, String>> expected = Linq.range(0, 10000).groupBy(x -> x % 13, x -> "v" + x);
+        IEnumerable<IGrouping<Integer, String>> actual = source.groupBy(x -> x % 13, x -> "v" + x);
+        assertEquals(expected.select(g -> g.getKey()), actual.select(g -> g.getKey()));
+        for (IGrouping<Integer, String> group : actual)
+            assertEquals(expected.single(g -> g.getKey().equals(group.getKey())), group);
+    }
+
+    @Test
+    void ToLookup() {
+        IEnumerable<Integer> expected = Linq.range(0, 10000);
+        ILookup<Integer, Integer> lookup = expected.asParallel().asOrdered().withDegreeOfParallelism(4).toLookup(x -> x % 100);
+        assertEquals(100, lookup.getCount());
+        assertEquals(Linq.range(0, 100), lookup.select(g -> g.getKey()));
+        for (int i = 0; i < 100; i++) {
+            int k = i;
+            assertEquals(expected.where(x -> x % 100 == k), lookup.get(i));
+        }
+        assertEquals(Linq.empty(), lookup.get(100));
+
+        ILookup<Integer, Integer> unordered = expected.asParallel().toLookup(x -> x % 100);
+        assertEquals(100, unordered.getCount());
+        assertEquals(100, unordered.get(7).count());
+    }
+
+    @Test
+    void ToLookupCustomComparerAndNullKeys() {
+        String[] words = new String[4000];
+        for (int i = 0; i < words.length; i++)
+            words[i] = i % 5 == 4 ? null : (i % 2 == 0 ? "Key" : "KEY") + (i % 5);
+        IEnumerable<String> source = Linq.of(words);
+        ILookup<String, Integer> expected = source.toLookup(x -> x, x -> x == null ? -1 : x.length(), StringComparer.OrdinalIgnoreCase);
+        ILookup<String, Integer> actual = source.asParallel().asOrdered().withDegreeOfParallelism(4).toLookup(x -> x, x -> x == null ? -1 : x.length(), StringComparer.OrdinalIgnoreCase);
+        assertEquals(5, actual.getCount());
+        assertEquals(expected.select(g -> g.getKey()), actual.select(g -> g.getKey()));
+        assertEquals(expected.get("key0"), actual.get("KEY0"));
+        assertEquals(expected.get(null), actual.get(null));
+        assertEquals(800, actual.get(null).count());
+
+        assertEquals(Linq.of("Key0", "KEY1", "Key2", "KEY3", null), source.asParallel().asOrdered().groupBy(x -> x, StringComparer.OrdinalIgnoreCase).select(g -> g.getKey()));
+    }
+
+    @Test
+    void Joins() {
+        IEnumerable<Integer> outer = Linq.range(0, 3000).select(x -> x % 11 == 0 ? null : x);
+        IEnumerable<Integer> inner = Linq.range(0, 2000).select(x -> x % 7 == 0 ? null : x * 2);
+        Func1<Integer, Integer> outerKey = x -> x == null ? null : x % 500;
+        Func1<Integer, Integer> innerKey = x -> x == null ? null : x % 500;
+        Func2<Integer, Integer, String> result = (o, i) -> o + ":" + i;
+        IParallelEnumerable<Integer> parallel = outer.asParallel().asOrdered().withDegreeOfParallelism(4);
+
+        assertEquals(outer.join(inner, outerKey, innerKey, result), parallel.join(inner, outerKey, innerKey, result));
+        assertEquals(outer.leftJoin(inner, outerKey, innerKey, result), parallel.leftJoin(inner, outerKey, innerKey, result));
+        assertEquals(outer.leftJoin(inner, outerKey, innerKey, -1, result), parallel.leftJoin(inner, outerKey, innerKey, -1, result));
+        assertEquals(outer.rightJoin(inner, outerKey, innerKey, result), parallel.rightJoin(inner, outerKey, innerKey, result));
+        assertEquals(outer.rightJoin(inner, outerKey, innerKey, -1, result), parallel.rightJoin(inner, outerKey, innerKey, -1, result));
+        assertEquals(outer.fullJoin(inner, outerKey, innerKey, result), parallel.fullJoin(inner, outerKey, innerKey, result));
+        assertEquals(outer.fullJoin(inner, outerKey, innerKey, -1, -2, result), parallel.fullJoin(inner, outerKey, innerKey, -1, -2, result));
+
+        IEnumerable<String> unordered = outer.asParallel().withDegreeOfParallelism(4).fullJoin(inner, outerKey, innerKey, result);
+        assertEquals(outer.fullJoin(inner, outerKey, innerKey, result).orderBy(x -> x), unordered.orderBy(x -> x));
+    }
+
+    @Test
+    void JoinCustomComparer() {
+        IEnumerable<String> outer = Linq.of("a", "B", null, "c", "D");
+        IEnumerable<String> inner = Linq.of("A", "b", "b", null, "e");
+        IParallelEnumerable<String> parallel = outer.asParallel().asOrdered();
+        assertEquals(outer.join(inner, x -> x, x -> x, (o, i) -> o + i, StringComparer.OrdinalIgnoreCase), parallel.join(inner, x -> x, x -> x, (o, i) -> o + i, StringComparer.OrdinalIgnoreCase));
+        assertEquals(outer.fullJoin(inner, x -> x, x -> x, (o, i) -> o + i, StringComparer.OrdinalIgnoreCase), parallel.fullJoin(inner, x -> x, x -> x, (o, i) -> o + i, StringComparer.OrdinalIgnoreCase));
+        assertEquals(Linq.empty(), parallel.join(Linq.<String>empty(), x -> x, x -> x, (o, i) -> o + i));
+        assertThrows(ArgumentNullException.class, () -> parallel.join(null, x -> x, x -> x, (o, i) -> o + i));
+        assertThrows(ArgumentNullException.class, () -> parallel.leftJoin(inner, null, x -> x, (o, i) -> o + i));
+        assertThrows(ArgumentNullException.class, () -> parallel.rightJoin(inner, x -> x, null, (o, i) -> o + i));
+        assertThrows(ArgumentNullException.class, () -> parallel.fullJoin(inner, x -> x, x -> x, (Func2<String, String, String>) null));
+    }
+
+    @Test
+    void SumAndAggregate() {
+        IParallelEnumerable<Integer> source = Linq.range(1, 10000).asParallel().withDegreeOfParallelism(3);
+        assertEquals(50005000, source.sumInt(x -> x));
+        assertEquals(50005000L, source.sumLong(x -> (long) x));
+        assertEquals(50005000d, source.sumDouble(x -> (double) x));
+        assertEquals(50005000L, source.aggregate(() -> 0L, (acc, x) -> acc + x, Long::sum));
+        assertEquals(Arrays.asList(1, 2, 3), Linq.of(1, 2, 3).asParallel().asOrdered().aggregate(() -> (List<Integer>) new ArrayList<Integer>(), (list, x) -> {
+            list.add(x);
+            return list;
+        }, (a, b) -> {
+            a.addAll(b);
+            return a;
+        }));
+    }
+
+    @Test
+    void AggregateSeedCountedOncePerChunk() {
+        AtomicInteger seeds = new AtomicInteger();
+        assertEquals(5150L, Linq.range(1, 100).asParallel().withDegreeOfParallelism(1).aggregate(() -> {
+            seeds.incrementAndGet();
+            return 100L;
+        }, (acc, x) -> acc + x, Long::sum));
+        assertEquals(1, seeds.get());
+        assertEquals(50005100L, Linq.of(1).asParallel().aggregate(() -> 50005099L, (acc, x) -> acc + x, Long::sum));
+        assertEquals(7L, Linq.<Integer>empty().asParallel().aggregate(() -> 7L, (acc, x) -> acc + x, Long::sum));
+    }
+
+    @Test
+    void BarrierComputedOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        IEnumerable<Integer> distinct = Linq.range(0, 1000).asParallel().withDegreeOfParallelism(3).select(x -> {
+            calls.incrementAndGet();
+            return x % 10;
+        }).distinct().asSequential();
+        assertEquals(10, distinct.count());
+        int once = calls.get();
+        assertEquals(10, distinct.toArray()._getCount());
+        assertEquals(10, distinct.toList().size());
+        assertEquals(10, distinct.count());
+        assertEquals(once, calls.get());
+    }
+
+    @Test
+    void AsSequential() {
+        IEnumerable<Integer> sequential = Linq.range(0, 1000).asParallel().asOrdered().select(x -> x * 2).asSequential();
+        assertEquals(Linq.range(0, 1000).select(x -> x * 2).take(10), sequential.take(10));
+    }
+
+    @Test
+    void Empty() {
+        assertEquals(0, Linq.<Integer>empty().asParallel().where(x -> true).count());
+        assertEquals(0, Linq.<Integer>empty().asParallel().sumInt(x -> x));
+        assertEquals(0, Linq.<Integer>empty().asParallel().toList().size());
+    }
+
+    @Test
+    void testAsParallel() {
+        IEnumerable<String> words = Linq.of("a", "bb", "a", "ccc", "bb", "dddd");
+        assertEquals(Linq.of("A", "BB", "CCC", "DDDD"), words.asParallel().asOrdered().distinct().select(x -> x.toUpperCase()));
+        assertEquals(13, words.asParallel().withDegreeOfParallelism(2).sumInt(String::length));
+    }
+}
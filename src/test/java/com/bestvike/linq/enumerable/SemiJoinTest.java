@@ -0,0 +1,73 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class SemiJoinTest extends TestCase {
+    private static final IEnumerable<Integer> OUTER = Linq.of(5, null, 1, 2, 2, 4, 5, 3, 8);
+    private static final IEnumerable<Integer> INNER = Linq.of(null, 2, 2, 5, 6, 8, 8);
+    private static final Func1<Integer, Integer> KEY = x -> x;
+
+    @Test
+    void ArgumentsNull() {
+        assertThrows(ArgumentNullException.class, () -> SemiJoin.semiJoin(null, INNER, KEY, KEY));
+        assertThrows(ArgumentNullException.class, () -> OUTER.semiJoin(null, KEY, KEY));
+        assertThrows(ArgumentNullException.class, () -> OUTER.antiJoin(INNER, null, KEY));
+        assertThrows(ArgumentNullException.class, () -> OUTER.antiJoin(INNER, KEY, null));
+    }
+
+    @Test
+    void KeepsOuterOrderAndDuplicates() {
+        assertEquals(Linq.of(5, 2, 2, 5, 8), OUTER.semiJoin(INNER, KEY, KEY));
+        assertEquals(Linq.of(null, 1, 4, 3), OUTER.antiJoin(INNER, KEY, KEY));
+    }
+
+    @Test
+    void MatchesJoinAndExceptBy() {
+        assertEquals(OUTER.where(x -> INNER.contains(x) && x != null), OUTER.semiJoin(INNER, KEY, KEY));
+        assertEquals(OUTER.where(x -> x != null).exceptBy(INNER, KEY).orderBy(x -> x), OUTER.antiJoin(INNER, KEY, KEY).where(x -> x != null).distinct().orderBy(x -> x));
+    }
+
+    @Test
+    void CustomComparer() {
+        IEnumerable<String> outer = Linq.of("Tim", "Bob", "Robert", "tim");
+        IEnumerable<String> inner = Linq.of("TIM", "robert");
+        assertEquals(Linq.of("Tim", "Robert", "tim"), outer.semiJoin(inner, x -> x, x -> x, StringComparer.OrdinalIgnoreCase));
+        assertEquals(Linq.of("Bob"), outer.antiJoin(inner, x -> x, x -> x, StringComparer.OrdinalIgnoreCase));
+        assertEquals(Linq.empty(), outer.semiJoin(inner, x -> x, x -> x));
+    }
+
+    @Test
+    void EmptyInner() {
+        assertEquals(Linq.empty(), OUTER.semiJoin(Linq.<Integer>empty(), KEY, KEY));
+        assertEquals(OUTER, OUTER.antiJoin(Linq.<Integer>empty(), KEY, KEY));
+    }
+
+    @Test
+    void ForcedCloseAfterFirst() {
+        IEnumerable<Integer> source = OUTER.semiJoin(INNER, KEY, KEY);
+        try (IEnumerator<Integer> e = source.enumerator()) {
+            assertTrue(e.moveNext());
+            e.close();
+            assertFalse(e.moveNext());
+        }
+        assertEquals(5, source.count());
+    }
+
+    @Test
+    void testSemiJoin() {
+        IEnumerable<Integer> orders = Linq.range(0, 10000).select(x -> x % 1000);
+        IEnumerable<Integer> customers = Linq.range(0, 500).select(x -> x * 2);
+        assertEquals(5000, orders.semiJoin(customers, x -> x, x -> x).count());
+        assertEquals(5000, orders.antiJoin(customers, x -> x, x -> x).count());
+    }
+}
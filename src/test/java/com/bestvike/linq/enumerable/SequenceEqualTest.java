@@ -224,4 +224,14 @@ class SequenceEqualTest extends TestCase {
 
         assertTrue(Linq.of(array1).sequenceEqual(Linq.of(array2), comparer));
     }
+
+    @Test
+    void testSequenceEqualPrimitiveArray() {
+        assertTrue(Linq.of(new int[]{1, 2, 3}).sequenceEqual(Linq.of(new int[]{1, 2, 3})));
+        assertFalse(Linq.of(new int[]{1, 2, 3}).sequenceEqual(Linq.of(new int[]{1, 2, 4})));
+        assertFalse(Linq.of(new long[]{1, 2, 3}).sequenceEqual(Linq.of(new long[]{1, 2})));
+        assertTrue(Linq.of(new double[]{Double.NaN, 0.0}).sequenceEqual(Linq.of(new double[]{Double.NaN, 0.0})));
+        assertFalse(Linq.of(new double[]{0.0}).sequenceEqual(Linq.of(new double[]{-0.0})));
+        assertTrue(Linq.of(new int[]{1, 2, 3}).sequenceEqual(Linq.of(1, 2, 3)));
+    }
 }
@@ -0,0 +1,46 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.linq.Linq;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class SetTest extends TestCase {
+    @Test
+    void testAddRemove() {
+        Set<Integer> set = new Set<>(null);
+        for (int i = 0; i < 1000; i++)
+            assertTrue(set.add(i % 2 == 0 ? i : -i));
+        assertFalse(set.add(0));
+        assertFalse(set.add(998));
+        assertFalse(set.add(-999));
+        assertTrue(set.add(null));
+        assertFalse(set.add(null));
+        assertEquals(1001, set.getCount());
+
+        assertTrue(set.remove(500));
+        assertFalse(set.remove(500));
+        assertTrue(set.remove(null));
+        for (int i = 1000; i < 2000; i++)
+            assertTrue(set.add(i));
+        assertFalse(set.remove(500));
+        assertTrue(set.add(500));
+        assertFalse(set.add(1999));
+    }
+
+    @Test
+    void testToCollection() {
+        Set<String> set = new Set<>(StringComparer.OrdinalIgnoreCase);
+        set.unionWith(Linq.of("a", "B", "A", "c", "b", "D"));
+        assertEquals(4, set.getCount());
+        assertEquals(Linq.of("a", "B", "c", "D"), Linq.of(set.toArray()));
+        assertEquals(Linq.of("a", "B", "c", "D"), Linq.of(set.toArray(String.class)));
+        assertEquals(Linq.of("a", "B", "c", "D"), Linq.of(set.toList()));
+
+        set.unionWith(Linq.of("e", "F"), String::toUpperCase);
+        assertEquals(Linq.of("a", "B", "c", "D", "E", "F"), Linq.of(set.toList()));
+    }
+}
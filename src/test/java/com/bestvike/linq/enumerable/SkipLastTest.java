@@ -12,6 +12,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -107,4 +108,24 @@ class SkipLastTest extends TestCase {
         IEnumerable<Department> expected = Linq.of(depts).take(2);
         assertEquals(expected, Linq.of(depts).skipLast(1).runOnce());
     }
+
+    @Test
+    void testSkipLastRingBuffer() {
+        for (int count : new int[]{1, 3, 4, 5, 7, 100, 101, Integer.MAX_VALUE}) {
+            IEnumerable<Integer> expected = Linq.range(0, Math.max(0, 100 - count));
+            assertEquals(expected, ForceNotCollection(Linq.range(0, 100)).skipLast(count));
+            assertEquals(expected, Linq.range(0, 100).select(x -> x).concat(Linq.empty()).skipLast(count));
+            assertEquals(expected, Linq.of(new LinkedHashSet<>(Linq.range(0, 100).toList())).skipLast(count));
+        }
+    }
+
+    @Test
+    void testSkipLastSourceGrows() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>(Arrays.asList(1, 2, 3, 4, 5));
+        IEnumerable<Integer> source = Linq.of(set).skipLast(2);
+        assertEquals(Linq.of(1, 2, 3), source);
+        set.add(6);
+        set.add(7);
+        assertEquals(Linq.of(1, 2, 3, 4, 5), source);
+    }
 }
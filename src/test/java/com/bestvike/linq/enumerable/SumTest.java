@@ -752,6 +752,16 @@ class SumTest extends TestCase {
         assertEquals(m("5"), Linq.of(numbers2).sumDecimalNull(n -> n));
     }
 
+    @Test
+    void testSumPrimitiveArray() {
+        assertEquals(15, Linq.of(new int[]{1, 2, 3, 4, 5}).sumInt());
+        assertEquals(15L, Linq.of(new long[]{1, 2, 3, 4, 5}).sumLong());
+        assertEquals(7.5, Linq.of(new double[]{1.5, 2.5, 3.5}).sumDouble());
+        assertEquals(0, Linq.of(new int[0]).sumInt());
+        assertThrows(ArithmeticException.class, () -> Linq.of(new int[]{Integer.MAX_VALUE, 1}).sumInt());
+        assertThrows(ArithmeticException.class, () -> Linq.of(new long[]{Long.MAX_VALUE, 1}).sumLong());
+    }
+
 
     private static class NameNum<T> extends ValueType {
         private final String name;
@@ -762,4 +772,19 @@ class SumTest extends TestCase {
             this.num = num;
         }
     }
+
+    @Test
+    void testSumPushed() {
+        assertEquals(5050, Linq.range(1, 100).sumInt(x -> x));
+        assertEquals(2550, Linq.range(1, 100).where(x -> x % 2 == 0).sumInt(x -> x));
+        assertEquals(2550L, Linq.range(1, 100).where(x -> x % 2 == 0).select(x -> (long) x).sumLong());
+        assertEquals(7.5, Linq.of(1.5, 2.5, 3.5).select(x -> x).sumDouble());
+        assertEquals(7.5f, Linq.of(1.5f, 2.5f, 3.5f).where(x -> x > 0).sumFloat());
+        assertEquals(m("6"), Linq.range(1, 3).select(x -> BigDecimal.valueOf(x)).sumDecimal());
+        assertEquals(50, Linq.repeat(5, 10).sumInt());
+        assertEquals(10, Linq.range(0, 100).take(5).sumInt());
+        assertThrows(ArithmeticException.class, () -> Linq.repeat(Integer.MAX_VALUE, 2).sumInt());
+        assertThrows(ArithmeticException.class, () -> Linq.range(0, 2).select(x -> Long.MAX_VALUE).sumLong());
+        assertThrows(NullPointerException.class, () -> Linq.of(1, null).where(x -> true).sumInt());
+    }
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -113,4 +114,34 @@ class TakeLastTest extends TestCase {
         IEnumerable<Department> expected = Linq.of(depts).skip(2);
         assertEquals(expected, Linq.of(depts).takeLast(1).runOnce());
     }
+
+    @Test
+    void testTakeLastRingBuffer() {
+        for (int count : new int[]{1, 3, 4, 5, 7, 100, 101, Integer.MAX_VALUE}) {
+            IEnumerable<Integer> expected = Linq.range(Math.max(0, 100 - count), Math.min(100, count));
+            assertEquals(expected, ForceNotCollection(Linq.range(0, 100)).takeLast(count));
+            assertEquals(expected, Linq.range(0, 100).select(x -> x).concat(Linq.empty()).takeLast(count));
+            assertEquals(expected, Linq.of(new LinkedHashSet<>(Linq.range(0, 100).toList())).takeLast(count));
+        }
+    }
+
+    @Test
+    void testTakeLastSourceGrows() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>(Arrays.asList(1, 2, 3, 4, 5));
+        IEnumerable<Integer> source = Linq.of(set).takeLast(2);
+        assertEquals(Linq.of(4, 5), source);
+        set.add(6);
+        set.add(7);
+        assertEquals(Linq.of(6, 7), source);
+    }
+
+    @Test
+    void testTakeLastSkipsToTail() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>(Arrays.asList(1, 2, 3, 4, 5));
+        IEnumerable<Integer> selected = Linq.of(set).select(x -> x * 10);
+        assertEquals(Linq.of(40, 50), selected.takeLast(2));
+        assertEquals(Linq.of(10, 20, 30, 40, 50), selected.takeLast(9));
+        assertEquals(Linq.of(5), Linq.of(set).skip(1).takeLast(1));
+        assertEquals(Linq.of(4, 5), Linq.of(set).take(9).takeLast(2));
+    }
 }
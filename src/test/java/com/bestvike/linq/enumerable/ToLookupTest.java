@@ -458,6 +458,27 @@ class ToLookupTest extends TestCase {
     }
 
 
+    @Test
+    void testToLookupManyGroups() {
+        ILookup<Integer, Integer> lookup = Linq.range(0, 10000).toLookup(x -> (x * 7919) % 1000);
+        assertEquals(1000, lookup.getCount());
+        int expectedKey = 0;
+        for (IGrouping<Integer, Integer> grouping : lookup) {
+            // groups keep the order in which their key first appeared
+            assertEquals((expectedKey * 7919) % 1000, grouping.getKey());
+            assertEquals(10, grouping.count());
+            expectedKey++;
+        }
+        IGrouping<Integer, Integer> grouping = (IGrouping<Integer, Integer>) lookup.get(919);
+        assertEquals(Linq.of(1, 1001, 2001, 3001, 4001, 5001, 6001, 7001, 8001, 9001), grouping);
+        assertEquals(1, grouping.elementAt(0));
+        assertEquals(9001, grouping.last());
+        assertEquals(2, grouping.toList().indexOf(2001));
+        assertEquals(10, grouping.toArray(Integer.class).length);
+        assertFalse(grouping.contains(2));
+        assertEquals(0, lookup.get(-1).count());
+    }
+
     private static class NameScore extends ValueType {
         private final String Name;
         private final int Score;
@@ -2,6 +2,8 @@ package com.bestvike.linq.enumerable;
 
 import com.bestvike.TestCase;
 import com.bestvike.ValueType;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.collections.generic.StringComparer;
 import com.bestvike.function.Action1;
 import com.bestvike.function.Func1;
 import com.bestvike.linq.IEnumerable;
@@ -315,6 +317,31 @@ class ToMapTest extends TestCase {
         assertEquals(2, map2.size());
     }
 
+    @Test
+    void testToMapWithComparer() {
+        Map<String, Integer> map = Linq.of("Tim", "Bob", "tim", "BOB", "Robert").toMap(x -> x, String::length, StringComparer.OrdinalIgnoreCase);
+        assertEquals(3, map.size());
+        assertEquals(3, map.get("TIM"));
+        assertTrue(map.containsKey("robert"));
+        assertEquals(Linq.of("Tim", "Bob", "Robert"), Linq.of(map.keySet()));
+
+        Map<Integer, Integer> map2 = Linq.range(0, 1000).where(x -> true).toMap(x -> x % 100, (IEqualityComparer<Integer>) null);
+        assertEquals(100, map2.size());
+        assertEquals(Linq.range(0, 100), Linq.of(map2.values()));
+        assertEquals(Linq.range(0, 100).toMap(x -> x), map2);
+        for (int i = 0; i < 100; i += 2)
+            assertEquals(i, map2.remove(i));
+        map2.entrySet().removeIf(entry -> entry.getKey() % 5 == 0);
+        map2.put(1000, null);
+        assertEquals(41, map2.size());
+        assertNull(map2.get(0));
+        assertTrue(map2.containsKey(1000));
+        assertEquals(Linq.range(0, 100).where(x -> x % 2 == 1 && x % 5 != 0).append(1000), Linq.of(map2.keySet()));
+
+        assertThrows(ArgumentNullException.class, () -> ToCollection.toMap((IEnumerable<String>) null, x -> x, StringComparer.Ordinal));
+        assertThrows(ArgumentNullException.class, () -> Linq.of("a").toMap(null, StringComparer.Ordinal));
+    }
+
 
     private static class NameScore extends ValueType {
         private final String Name;
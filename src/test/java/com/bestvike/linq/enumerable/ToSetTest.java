@@ -1,6 +1,7 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.Linq;
 import org.junit.jupiter.api.Test;
@@ -72,6 +73,20 @@ class ToSetTest extends TestCase {
         assertEquals(3, set.size());
     }
 
+    @Test
+    void testToSetWithComparer() {
+        Set<String> set = Linq.of("Tim", "Bob", "tim", "BOB", "Robert").toSet(StringComparer.OrdinalIgnoreCase);
+        assertEquals(3, set.size());
+        assertTrue(set.contains("ROBERT"));
+        assertFalse(set.add("bob"));
+        assertTrue(set.remove("TIM"));
+        assertEquals(Linq.of("Bob", "Robert"), Linq.of(set));
+
+        Set<Integer> set2 = Linq.range(0, 1000).select(x -> x % 10).toLinkedSet(null);
+        assertEquals(Linq.range(0, 10), Linq.of(set2));
+        assertEquals(Linq.range(0, 10).toSet(), set2);
+    }
+
 
     private static class NameScore {
         private final String Name;
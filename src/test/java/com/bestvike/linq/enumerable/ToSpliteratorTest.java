@@ -13,7 +13,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created by 许崇雷 on 2019-04-25.
@@ -261,6 +264,60 @@ class ToSpliteratorTest extends TestCase {
         assertEquals(Linq.of(objects).cast(Double.class), Linq.of(2d, 4d, 6d));
     }
 
+    @Test
+    void testSpliteratorPartition() {
+        List<IEnumerable<Integer>> sources = new ArrayList<>();
+        sources.add(Linq.range(0, 1000));
+        sources.add(Linq.range(0, 1000).select(x -> x));
+        sources.add(Linq.of(Linq.range(0, 1000).toArray(Integer.class)).select(x -> x));
+        sources.add(Linq.of(Linq.range(0, 1000).toList()).select(x -> x));
+        sources.add(Linq.of(Linq.range(-10, 1020).toList()).skip(10).take(1000));
+        sources.add(Linq.of(Linq.range(-10, 1020).toList()).skip(10).take(1000).select(x -> x));
+        for (IEnumerable<Integer> source : sources) {
+            Spliterator<Integer> spliterator = source.spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+            assertEquals(1000, spliterator.getExactSizeIfKnown());
+            Spliterator<Integer> prefix = spliterator.trySplit();
+            assertNotNull(prefix);
+            assertEquals(500, prefix.estimateSize());
+            assertEquals(500, spliterator.estimateSize());
+            assertEquals(Linq.range(0, 1000), Linq.of(source.parallelStream().toArray()).cast(Integer.class));
+            assertEquals(499500, source.parallelStream().mapToInt(x -> x).sum());
+        }
+
+        Spliterator<String> repeat = Linq.repeat("a", 5).spliterator();
+        assertEquals(5, repeat.getExactSizeIfKnown());
+        assertEquals(5, Linq.repeat("a", 5).parallelStream().filter("a"::equals).count());
+
+        IEnumerable<Integer> ordered = Linq.range(0, 1000).orderByDescending(x -> x);
+        assertTrue(ordered.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(ordered, Linq.of(ordered.parallelStream().toArray()).cast(Integer.class));
+        assertEquals(ordered.skip(10).take(20), Linq.of(ordered.skip(10).take(20).parallelStream().toArray()).cast(Integer.class));
+
+        Spliterator<Integer> empty = Linq.range(0, 0).select(x -> x).spliterator();
+        assertNull(empty.trySplit());
+        assertFalse(empty.tryAdvance(x -> fail("empty")));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 3).spliterator().tryAdvance(null));
+    }
+
+    @Test
+    void testSpliteratorOrderedLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        IEnumerable<Integer> ordered = Linq.range(0, 1000).orderByDescending(x -> {
+            calls.incrementAndGet();
+            return x;
+        });
+        Stream<Integer> stream = ordered.stream();
+        Spliterator<Integer> spliterator = ordered.take(10).spliterator();
+        assertEquals(0, calls.get());
+        assertEquals(10, spliterator.estimateSize());
+        assertEquals(999, stream.findFirst().get());
+        assertEquals(1000, calls.get());
+        assertTrue(spliterator.tryAdvance(x -> assertEquals(999, x)));
+        assertEquals(9, spliterator.estimateSize());
+        assertEquals(Linq.range(990, 9).reverse(), Linq.of(StreamSupport.stream(spliterator, true).toArray()));
+    }
+
     @Test
     void testStreamGrouping() {
         int[] element = {60, -10, 40, 100};
@@ -1094,4 +1094,43 @@ class WhereTest extends TestCase {
                 .toList();
         assertEquals("[F, B, E, J]", names2.toString());
     }
+
+    @Test
+    void testWhereSelectFused() {
+        Integer[] numbers = Linq.range(0, 100).toArray(Integer.class);
+        for (IEnumerable<Integer> source : Arrays.<IEnumerable<Integer>>asList(Linq.of(numbers), Linq.of(new ArrayList<>(Arrays.asList(numbers))), ForceNotCollection(Linq.of(numbers)))) {
+            int[] selected = {0};
+            IEnumerable<String> query = source
+                    .where(x -> x % 2 == 0)
+                    .select(x -> x * 3)
+                    .where(x -> x % 4 == 0)
+                    .select(x -> {
+                        selected[0]++;
+                        return "#" + x;
+                    });
+            assertEquals(Linq.of("#0", "#12", "#24", "#36"), query.take(4));
+            assertEquals(4, selected[0]);
+            assertEquals(Linq.of("#24", "#36", "#48"), query.skip(2).take(3));
+            assertEquals(Linq.of("#36", "#48"), query.skip(2).take(3).skip(1).where(x -> x.length() == 3));
+            assertEquals(Linq.of("#24!", "#36!"), query.skip(2).take(2).select(x -> x + "!"));
+            assertEquals(25, query.count());
+            assertEquals(25, query.toList().size());
+            assertEquals(Linq.of(query.toList()), Linq.of(query.toArray(String.class)));
+            assertEquals("#36", query.elementAt(3));
+            assertEquals("#60", query.take(6).last());
+            assertEquals("#288", query.last());
+            assertNull(query.skip(30).firstOrDefault());
+
+            selected[0] = 0;
+            assertEquals(Integer.valueOf(28), source.where(x -> x % 2 == 0).skip(10).take(5).select(x -> {
+                selected[0]++;
+                return x;
+            }).elementAt(4));
+            assertEquals(1, selected[0]);
+
+            List<String> pushed = new ArrayList<>();
+            query.skip(1).take(2).forEach(pushed::add);
+            assertEquals(Arrays.asList("#12", "#24"), pushed);
+        }
+    }
 }
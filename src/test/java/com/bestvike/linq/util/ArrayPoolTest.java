@@ -0,0 +1,76 @@
+package com.bestvike.linq.util;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class ArrayPoolTest extends TestCase {
+    @Test
+    void argumentChecks() {
+        assertThrows(ArgumentNullException.class, () -> ArrayPool.setObjects(null));
+        assertThrows(ArgumentNullException.class, () -> ArrayPool.setInts(null));
+        assertThrows(ArgumentNullException.class, () -> ArrayPool.objects().release(null));
+        assertThrows(ArgumentOutOfRangeException.class, () -> ArrayPool.ints().rent(-1));
+    }
+
+    @Test
+    void rentAndRelease() {
+        Object[] array = ArrayPool.objects().rent(100);
+        assertEquals(128, array.length);
+        array[0] = "leak";
+        ArrayPool.objects().release(array);
+        Object[] again = ArrayPool.objects().rent(65);
+        assertSame(array, again);
+        assertNull(again[0]);
+        ArrayPool.objects().release(again);
+
+        assertEquals(8, ArrayPool.ints().rent(3).length);
+        assertEquals((1 << 20) + 1, ArrayPool.ints().rent((1 << 20) + 1).length);
+    }
+
+    @Test
+    void disabled() {
+        ArrayPool.setEnabled(false);
+        try {
+            assertFalse(ArrayPool.isEnabled());
+            int[] array = ArrayPool.ints().rent(100);
+            assertEquals(100, array.length);
+            ArrayPool.ints().release(ArrayPool.ints().rent(128));
+            assertNotSame(ArrayPool.ints().rent(128), ArrayPool.ints().rent(128));
+            assertEquals(10000, Linq.range(0, 10000).where(x -> true).toArray()._getCount());
+        } finally {
+            ArrayPool.setEnabled(true);
+        }
+    }
+
+    @Test
+    void pluggable() {
+        ArrayPool<Object[]> original = ArrayPool.objects();
+        int[] rented = {0, 0};
+        ArrayPool.setObjects(new ArrayPool<Object[]>() {
+            @Override
+            public Object[] rent(int minimumLength) {
+                rented[0]++;
+                rented[1]++;
+                return new Object[minimumLength];
+            }
+
+            @Override
+            public void release(Object[] array) {
+                rented[0]--;
+            }
+        });
+        try {
+            assertEquals(Linq.range(0, 1000), Linq.of(Linq.range(0, 1000).where(x -> true).toArray()));
+            assertEquals(0, rented[0]);
+            assertTrue(rented[1] > 0);
+        } finally {
+            ArrayPool.setObjects(original);
+        }
+    }
+}